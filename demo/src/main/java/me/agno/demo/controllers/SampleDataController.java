@@ -5,15 +5,14 @@ import java.math.MathContext;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.List;
 import java.util.Random;
 import java.util.function.Consumer;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import me.agno.demo.model.*;
@@ -21,14 +20,12 @@ import me.agno.demo.repositories.*;
 import me.agno.gridjavacore.IGridColumnCollection;
 import me.agno.gridjavacore.SelectItem;
 import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.filtering.DistinctValuesCache;
+import me.agno.gridjavacore.grouping.GroupDTO;
 import me.agno.gridjavacore.server.GridServer;
 import me.agno.gridjavacore.server.IGridServer;
 import me.agno.gridjavacore.utils.ItemsDTO;
 import me.agno.gridjavacore.utils.Pair;
-import org.hibernate.query.criteria.HibernateCriteriaBuilder;
-import org.hibernate.query.sqm.tree.SqmCopyContext;
-import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
-import org.hibernate.query.sqm.tree.select.SqmSubQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +45,9 @@ public class SampleDataController {
 	@Autowired
 	EntityManagerFactory entityManagerFactory;
 
+	// shared by the requests of the customer names grid
+	private final DistinctValuesCache customerNamesCache = new DistinctValuesCache();
+
 	@GetMapping(value = {"getordersgrid", "GetOrdersGrid"}, produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<ItemsDTO<Order>> getOrdersGrid(HttpServletRequest request) {
 
@@ -209,6 +209,30 @@ public class SampleDataController {
 		return ResponseEntity.ok(items);
 	}
 
+	@GetMapping(value = {"getordersgroups", "GetOrdersGroups"}, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<List<GroupDTO>> getOrdersGroups(HttpServletRequest request,
+														  @RequestParam("column") List<String> groupColumns) {
+
+		EntityManager em = entityManagerFactory.createEntityManager();
+
+		Consumer<IGridColumnCollection<Order>> columns = c -> {
+			c.add("orderID", Integer.class);
+			c.add("orderDate", LocalDateTime.class, "orderCustomDate");
+			c.add("customer.companyName", String.class);
+			c.add("customer.contactName", String.class);
+			c.add("shipVia", Integer.class);
+			c.add("freight", BigDecimal.class).sum(true).average(true);
+			c.add("customer.isVip",Boolean.class);
+		};
+
+		IGridServer<Order> server = new GridServer<>(em, Order.class, request.getParameterMap(), columns)
+				.filterable()
+				.setRemoveDiacritics("dbo.RemoveDiacritics");
+
+		var groups = server.getGroups(groupColumns);
+		return ResponseEntity.ok(groups);
+	}
+
 	@GetMapping(value = {"getordersgridwithsubgrids", "GetOrdersGridWithSubgrids"}, produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<ItemsDTO<Order>> getOrdersGridWithSubgrids(HttpServletRequest request) {
 
@@ -596,35 +620,11 @@ public class SampleDataController {
 			c.add("customer.isVip",Boolean.class);
 		};
 
-		// get all customer ids in the grid with the current filters
-		var server = new GridServer<>(em, Order.class, request.getParameterMap(), columns);
-
-		// get the full predicate (after pre-process)
-		var grid = server.getGrid();
-		grid.getPredicate();
-
-		// create a query spec to copy the predicate to a new query
-		var gridQuery = (SqmSelectStatement) grid.getCriteriaQuery();
-		var gridQuerySpec = gridQuery.getQuerySpec();
-		var gridSubQuerySpec = gridQuerySpec.copy(SqmCopyContext.simpleContext());
-
-		// create a new query to get company names
-		var newBuilder = (HibernateCriteriaBuilder) grid.getCriteriaBuilder();
-		var columnNameQuery = newBuilder.createQuery(String.class);
-
-		// copy the former predicate using its spec to a subquery of the new query to get distinct company names
-		var subQuery = (SqmSubQuery<Tuple>) columnNameQuery.subquery(Tuple.class);
-		subQuery.setQueryPart(gridSubQuerySpec);
-		Root<?> subQueryRoot = subQuery.getRootList().get(0);
-		subQuery.multiselect(subQueryRoot.get("customer").get("companyName").alias("companyName"))
-				.distinct(true);
-
-		// configure the new query from the copied subquery
-		columnNameQuery.from(subQuery);
-		Root<?> columnNameRoot = columnNameQuery.getRootList().get(0);
-		columnNameQuery.select(columnNameRoot.get("companyName"));
+		// get the company names of the orders in the grid with the current filters
+		var server = new GridServer<>(em, Order.class, request.getParameterMap(), columns)
+				.withDistinctValuesCache(customerNamesCache);
 
-		var customerNames = grid.getEntityManager().createQuery(columnNameQuery).getResultList();
+		var customerNames = server.getDistinctValues("customer.companyName", 0, null, false);
 		return ResponseEntity.ok(customerNames);
 	}
 
@@ -1,6 +1,9 @@
 package me.agno.gridjavacore;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,21 +12,46 @@ import me.agno.gridjavacore.annotations.GridCoreAnnotationsProvider;
 import me.agno.gridjavacore.annotations.GridTable;
 import me.agno.gridjavacore.annotations.IGridAnnotationsProvider;
 import me.agno.gridjavacore.columns.*;
+import me.agno.gridjavacore.export.ExportFormat;
+import me.agno.gridjavacore.export.GridExporter;
+import me.agno.gridjavacore.filtering.DistinctValuesProcessor;
+import me.agno.gridjavacore.filtering.FacetProcessor;
 import me.agno.gridjavacore.filtering.FilterProcessor;
+import me.agno.gridjavacore.filtering.types.ITextPredicateStrategy;
+import me.agno.gridjavacore.filtering.types.TextPredicateStrategy;
+import me.agno.gridjavacore.grouping.GroupDTO;
+import me.agno.gridjavacore.grouping.GroupProcessor;
 import me.agno.gridjavacore.pagination.GridPager;
 import me.agno.gridjavacore.pagination.IGridPager;
 import me.agno.gridjavacore.pagination.IPagerProcessor;
 import me.agno.gridjavacore.pagination.PagerProcessor;
 import me.agno.gridjavacore.pagination.PagingType;
 import me.agno.gridjavacore.searching.SearchProcessor;
+import me.agno.gridjavacore.sorting.GridSortDirection;
 import me.agno.gridjavacore.sorting.GridSortMode;
 import me.agno.gridjavacore.sorting.SortProcessor;
 import me.agno.gridjavacore.totals.CountProcessor;
 import me.agno.gridjavacore.totals.TotalsDTO;
 import me.agno.gridjavacore.totals.TotalsProcessor;
-
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.Query;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Represents a grid that displays and manages a collection of items of type T.
@@ -39,8 +67,11 @@ public class Grid<T> implements IGrid<T> {
     private long itemsCount = -1; // total items count on collection
     private long displayingItemsCount = -1; // count of displaying items (if using pagination)
     private List<T> itemsToList; //items after processors
+    private List<Map<String, Object>> projectedItemsToList; //projected items after processors
     private boolean itemsPreProcessed; //is preprocessors launched?
     private boolean itemsProcessed; //is processors launched?
+    private boolean predicateBuilt; //is the predicate added to the query?
+    private boolean orderBuilt; //is the order added to the query?
 
 
     /**
@@ -50,9 +81,22 @@ public class Grid<T> implements IGrid<T> {
      * manages the lifecycle of entities, performs database operations, and
      * facilitates JPA (Java Persistence API) operations.
      */
-    @Getter
     private EntityManager entityManager;
 
+    // entity manager used by the queries running concurrently on the current thread
+    private final ThreadLocal<EntityManager> boundEntityManager = new ThreadLocal<>();
+
+    /**
+     * Retrieves the EntityManager object used for managing the persistence context.
+     * When the grid queries are running concurrently, it returns the entity manager opened for the current thread.
+     *
+     * @return the EntityManager object
+     */
+    public EntityManager getEntityManager() {
+        var entityManager = this.boundEntityManager.get();
+        return entityManager != null ? entityManager : this.entityManager;
+    }
+
     /**
      * Represents a Criteria Builder for filtering and searching grid data.
      */
@@ -96,6 +140,110 @@ public class Grid<T> implements IGrid<T> {
     @Setter
     private Predicate predicate;
 
+    private Predicate basePredicate; //predicate set before applying the filters, search and group
+
+    private static final String ROOT_ALIAS = "gridItem";
+
+    private static final String PARAMETER_PREFIX = "gridParameter";
+
+    // values of the named parameters of the grid queries, bound when the queries are created
+    private final Map<String, Object> parameterValues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger parameterCount = new AtomicInteger();
+
+    /**
+     * Creates a named parameter for a filter or search value of the grid.
+     * The parameter is bound to the value by {@link #createQuery(CriteriaQuery)}, so the value is sent to the
+     * database as a JDBC parameter and the text of the SQL statement doesn't depend on the value.
+     * The parameter name is kept by the copies of the criteria query, so it is also bound in the count
+     * and totals queries.
+     *
+     * @param type the type of the parameter
+     * @param value the value bound to the parameter
+     * @return the parameter expression
+     * @param <X> the type of the parameter
+     */
+    public <X> ParameterExpression<X> createParameter(Class<X> type, X value) {
+        String name = PARAMETER_PREFIX + this.parameterCount.getAndIncrement();
+        this.parameterValues.put(name, value);
+        return this.criteriaBuilder.parameter(type, name);
+    }
+
+    /**
+     * Creates a typed query for a criteria query of the grid, using the entity manager of the grid.
+     * The named parameters of the grid contained in the query are bound to their values.
+     * If the HQL queries are enabled, the query is created from its HQL string, falling back to the criteria query
+     * if it selects from a derived table or it can't be rendered as HQL.
+     * If the grid is in read-only mode, the read-only and flush mode hints are applied to the query.
+     *
+     * @param query the criteria query
+     * @return the typed query
+     * @param <X> the type of the query results
+     */
+    public <X> TypedQuery<X> createQuery(CriteriaQuery<X> query) {
+        TypedQuery<X> typedQuery = this.hqlQueries ? createHqlQuery(query) : null;
+        if (typedQuery == null) {
+            typedQuery = getEntityManager().createQuery(query);
+            setParameters(typedQuery);
+        }
+        if (this.readOnly) {
+            typedQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
+            typedQuery.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        }
+        return typedQuery;
+    }
+
+    // the HQL string of a query only depends on the shape of the grid, because the root and the joins have fixed
+    // aliases and the values are named parameters, so Hibernate finds its interpretation and its SQL translation
+    // in the query plan cache
+    private <X> TypedQuery<X> createHqlQuery(CriteriaQuery<X> query) {
+        var statement = (SqmSelectStatement<X>) query;
+        for (var root : statement.getQueryPart().getFirstQuerySpec().getRootList()) {
+            if (root instanceof JpaDerivedRoot<?>)
+                return null; //the derived tables of the count and totals queries are not rendered as HQL
+        }
+
+        try {
+            String hql = statement.toHqlString();
+            var typedQuery = getEntityManager().createQuery(hql, query.getResultType());
+            return setParameters(typedQuery) ? typedQuery : null;
+        }
+        catch (IllegalArgumentException | UnsupportedOperationException e) {
+            return null; //the query can't be rendered as HQL
+        }
+    }
+
+    /**
+     * Binds the named parameters of the grid contained in a typed query to their values.
+     * The filter and search values of the grid are named parameters of its criteria query, so a typed query
+     * created with the entity manager by a custom count, totals or pager process function must be bound with
+     * this method. The queries created with {@link #createQuery(CriteriaQuery)} are already bound, and the
+     * other parameters of the query are not changed.
+     *
+     * @param typedQuery the typed query
+     * @return the same typed query
+     * @param <X> the type of the query results
+     */
+    public <X> TypedQuery<X> bindParameters(TypedQuery<X> typedQuery) {
+        setParameters(typedQuery);
+        return typedQuery;
+    }
+
+    // returns false if any parameter of the query is not a named parameter of the grid
+    private boolean setParameters(TypedQuery<?> typedQuery) {
+        boolean bound = true;
+        for (var parameter : typedQuery.getParameters()) {
+            var value = parameter.getName() == null ? null : this.parameterValues.get(parameter.getName());
+            if (value instanceof Collection<?> values)
+                typedQuery.unwrap(Query.class).setParameterList(parameter.getName(), values);
+            else if (value != null)
+                typedQuery.setParameter(parameter.getName(), value);
+            else
+                bound = false;
+        }
+        return bound;
+    }
+
     /**
      * Retrieves the predicate used for filtering and searching the grid data.
      *
@@ -149,6 +297,30 @@ public class Grid<T> implements IGrid<T> {
     @Getter
     private CountProcessor<T> countProcessor;
 
+    /**
+     * The GroupProcessor class is responsible for grouping the grid items and restricting them to an expanded group.
+     */
+    @Getter
+    private GroupProcessor<T> groupProcessor;
+
+    /**
+     * The DistinctValuesProcessor class is responsible for retrieving the distinct values of a column for the list filters.
+     */
+    @Getter
+    private DistinctValuesProcessor<T> distinctValuesProcessor;
+
+    /**
+     * The FacetProcessor class is responsible for counting the items of the grid for each value of the facet columns.
+     */
+    @Getter
+    private FacetProcessor<T> facetProcessor;
+
+    /**
+     * The CollectionCountProcessor class is responsible for counting the subgrid items of the collection columns.
+     */
+    @Getter
+    private CollectionCountProcessor<T> collectionCountProcessor;
+
     /**
      * The SortProcessor class is responsible for processing sorting in a grid.
      *
@@ -213,6 +385,7 @@ public class Grid<T> implements IGrid<T> {
      * - NONE: No paging is applied.
      * - PAGINATION: Paging is applied by dividing the data into pages.
      * - VIRTUALIZATION: Paging is applied by dynamically loading data as the user scrolls.
+     * - KEYSET: Paging is applied by seeking the rows after the sort key values of the previous page.
      */
     @Getter
     private PagingType pagingType = PagingType.NONE;
@@ -270,6 +443,85 @@ public class Grid<T> implements IGrid<T> {
     @Setter
     private String removeDiacritics = null;
 
+    /**
+     * Represents the strategy used to compare the text columns with the filter and search values
+     * when the diacritics are not removed.
+     */
+    @Getter
+    @Setter
+    private ITextPredicateStrategy textPredicateStrategy = TextPredicateStrategy.UPPER;
+
+    /**
+     * Represents whether all the column totals are calculated with a single aggregate query
+     * instead of one query per column and total type.
+     */
+    @Getter
+    @Setter
+    private boolean fusedTotals = false;
+
+    /**
+     * Represents whether the items count is calculated in the same aggregate query as the column totals.
+     */
+    @Getter
+    @Setter
+    private boolean fusedCount = false;
+
+    /**
+     * Represents whether the items count is retrieved with a count(*) over() window function in the same query
+     * as the page items. It is only applied to paged grids without totals.
+     */
+    @Getter
+    @Setter
+    private boolean windowCount = false;
+
+    /**
+     * Represents whether the IS_DUPLICATED and IS_NOT_DUPLICATED filters select the items with a
+     * count(*) over (partition by column) window function in a derived table, instead of a GROUP BY subquery.
+     */
+    @Getter
+    @Setter
+    private boolean windowDuplicates = false;
+
+    /**
+     * Represents whether the items count query is skipped. One more item than the page size is retrieved
+     * to know if there is a next page. It is only applied to paginated and virtualized grids.
+     */
+    @Getter
+    @Setter
+    private boolean noCount = false;
+
+    /**
+     * Represents whether the page query selects only the expressions of the grid columns instead of the entities,
+     * so the items are not hydrated as managed entities.
+     */
+    @Getter
+    @Setter
+    private boolean projection = false;
+
+    /**
+     * Represents whether the to-one associations navigated by the column expressions are loaded
+     * in the same query as the page items, using an entity graph.
+     */
+    @Getter
+    @Setter
+    private boolean fetchGraph = false;
+
+    /**
+     * Represents whether the grid queries are executed in read-only mode. The items are loaded as read-only entities
+     * without snapshots for dirty checking, and the persistence context is not flushed before the queries.
+     */
+    @Getter
+    @Setter
+    private boolean readOnly = false;
+
+    /**
+     * Represents whether the grid queries are created from their HQL strings instead of the criteria queries,
+     * so their interpretation and SQL translation are cached by the Hibernate query plan cache.
+     */
+    @Getter
+    @Setter
+    private boolean hqlQueries = false;
+
     /**
      * Constructs a Grid object.
      *
@@ -286,6 +538,7 @@ public class Grid<T> implements IGrid<T> {
         this.criteriaBuilder = entityManager.getCriteriaBuilder();
         this.criteriaQuery = this.criteriaBuilder.createQuery(this.targetType);
         this.root = this.criteriaQuery.from(this.targetType);
+        this.root.alias(ROOT_ALIAS);
 
         this.query = query;
 
@@ -297,6 +550,10 @@ public class Grid<T> implements IGrid<T> {
         this.searchProcessor = new SearchProcessor<T>(this, this.settings.getSearchSettings());
         this.totalsProcessor = new TotalsProcessor<T>(this);
         this.countProcessor = new CountProcessor<T>(this);
+        this.groupProcessor = new GroupProcessor<T>(this);
+        this.distinctValuesProcessor = new DistinctValuesProcessor<T>(this);
+        this.facetProcessor = new FacetProcessor<T>(this);
+        this.collectionCountProcessor = new CollectionCountProcessor<T>(this);
 
         this.annotations = new GridCoreAnnotationsProvider<T>();
 
@@ -358,22 +615,62 @@ public class Grid<T> implements IGrid<T> {
     private void preProcess() {
         if (!this.itemsPreProcessed) {
             this.itemsPreProcessed = true;
-            this.predicate = this.filterProcessor.process(this.predicate);
-            this.predicate = this.searchProcessor.process(this.predicate);
+            buildPredicate();
 
-            this.criteriaQuery.select(this.root);
-            var predicate = this.predicate;
-            if(predicate != null)
-                this.criteriaQuery.where(predicate);
+            if (isWindowCountApplied() || isNoCountApplied()) {
+                // count is retrieved with the page items
+                this.itemsCount = -1;
 
-            // added to avoid 2nd EF opened task if counting later
-            this.itemsCount = this.countProcessor.process(this.predicate);
+                // calculate totals
+                if (isNoCountApplied())
+                    this.totalsProcessor.process(this.predicate);
+            }
+            else if (this.fusedCount) {
+                // count and totals are calculated with the same aggregate query
+                this.itemsCount = this.totalsProcessor.processWithCount(this.predicate);
+            }
+            else {
+                // added to avoid 2nd EF opened task if counting later
+                this.itemsCount = this.countProcessor.process(this.predicate);
 
-            // calculate totals
-            this.totalsProcessor.process(this.predicate);
+                // calculate totals
+                this.totalsProcessor.process(this.predicate);
+            }
         }
     }
 
+    private void buildPredicate() {
+        if (this.predicateBuilt)
+            return;
+        this.predicateBuilt = true;
+
+        this.basePredicate = this.predicate;
+        this.predicate = this.filterProcessor.process(this.predicate);
+        this.predicate = this.searchProcessor.process(this.predicate);
+        this.predicate = this.groupProcessor.process(this.predicate);
+
+        this.criteriaQuery.select(this.root);
+        var predicate = this.predicate;
+        if(predicate != null)
+            this.criteriaQuery.where(predicate);
+    }
+
+    private void buildOrder() {
+        if (this.orderBuilt)
+            return;
+        this.orderBuilt = true;
+
+        this.orderList = this.sortProcessor.process(this.orderList);
+        // the relevance order can't be used as a keyset, because its values are not columns of the items
+        if ((this.orderList == null || this.orderList.isEmpty()) && this.pagingType != PagingType.KEYSET
+                && this.searchProcessor.getRelevanceOrder() != null)
+            this.orderList = new ArrayList<>(List.of(this.searchProcessor.getRelevanceOrder()));
+        if (this.pagingType == PagingType.KEYSET)
+            addKeysetTiebreakers();
+        if(this.orderList != null && ! this.orderList.isEmpty())
+            this.criteriaQuery.orderBy(this.orderList);
+    }
+
     /**
      * Retrieves the count of items in the grid.
      *
@@ -382,6 +679,8 @@ public class Grid<T> implements IGrid<T> {
     public long getItemsCount() {
         //call preprocessors before:
         preProcess();
+        if (this.itemsCount < 0 && (isWindowCountApplied() || isNoCountApplied()))
+            prepareItemsToDisplay();
         return this.itemsCount;
     }
 
@@ -402,37 +701,365 @@ public class Grid<T> implements IGrid<T> {
     public long getDisplayingItemsCount() {
         if (this.displayingItemsCount >= 0)
             return this.displayingItemsCount;
-        this.displayingItemsCount = getItemsToDisplay().size();
+        this.displayingItemsCount = isProjectionApplied() ? getProjectedItemsToDisplay().size()
+                : getItemsToDisplay().size();
         return this.displayingItemsCount;
     }
 
     /**
      * Retrieves the items to display in the grid.
+     * If the projection is applied, the items must be retrieved with {@link #getProjectedItemsToDisplay()}.
      *
      * @return the list of items to display
+     * @throws IllegalStateException if the projection is applied
      */
     public List<T> getItemsToDisplay() {
+        if (isProjectionApplied())
+            throw new IllegalStateException("The grid columns are projected, so the items must be retrieved "
+                    + "with getProjectedItemsToDisplay");
         prepareItemsToDisplay();
         return this.itemsToList;
     }
 
+    /**
+     * Retrieves the projected items to display in the grid.
+     * Each item is a map with the values of the grid columns, nested by the path of the column expressions.
+     * The projection is only applied to paginated and virtualized grids without a custom pager process function,
+     * the items of the other grids must be retrieved with {@link #getItemsToDisplay()}.
+     *
+     * @return the list of projected items to display
+     * @throws IllegalStateException if the projection is not applied
+     */
+    public List<Map<String, Object>> getProjectedItemsToDisplay() {
+        if (!isProjectionApplied())
+            throw new IllegalStateException("The grid columns are not projected, so the items must be retrieved "
+                    + "with getItemsToDisplay");
+        prepareItemsToDisplay();
+        return this.projectedItemsToList;
+    }
+
+    /**
+     * Retrieves the groups of the filtered and searched items of the grid for the given group columns.
+     * The key values, the number of items and the column totals of each group are calculated in the database.
+     * The count and totals of the grid are not calculated.
+     *
+     * @param columnNames the names of the group columns
+     * @param maxGroups the maximum number of groups to retrieve, or 0 to retrieve all the groups
+     * @return the list of groups sorted by the group key values
+     */
+    public List<GroupDTO> getGroups(List<String> columnNames, int maxGroups) {
+        buildPredicate();
+        return this.groupProcessor.getGroups(columnNames, maxGroups);
+    }
+
+    /**
+     * Retrieves the distinct non-null values of a column for the filtered, searched and grouped items of the grid,
+     * sorted ascending. The count and totals of the grid are not calculated.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values of a string column, compared as a starts-with filter, or null to retrieve
+     *               all the values
+     * @param excludeOwnFilter true if the filter of the column is not applied, so all the values matching
+     *                         the other filters are retrieved
+     * @return the list of distinct values
+     */
+    public List<Object> getDistinctValues(String columnName, int limit, String prefix, boolean excludeOwnFilter) {
+        buildPredicate();
+
+        var column = columnName == null || columnName.trim().isEmpty() ? null : this.columns.get(columnName);
+        if (!excludeOwnFilter || column == null || column.getFilter() == null)
+            return this.distinctValuesProcessor.process(columnName, limit, prefix, false);
+
+        return withoutFilter(column, () -> this.distinctValuesProcessor.process(columnName, limit, prefix, true));
+    }
+
+    /**
+     * Counts the filtered, searched and grouped items of the grid for each non-null value of the given columns.
+     * The filter of each column is not applied to its own counts, so the counts of all the options of a list filter
+     * are available. Each column is counted with its own GROUP BY query, and the queries are combined with UNION ALL
+     * in a single statement. The count and totals of the grid are not calculated.
+     *
+     * @param columnNames the names of the facet columns
+     * @return the counts of the values of each column keyed by the column name, sorted by value
+     */
+    public Map<String, Map<Object, Long>> getFacets(List<String> columnNames) {
+        buildPredicate();
+
+        var columns = this.facetProcessor.getColumns(columnNames);
+        List<CriteriaQuery<Tuple>> queries = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            int index = i;
+            if (this.filterProcessor.isFiltered(columns.get(i)))
+                queries.add(withoutFilter(columns.get(i), () -> this.facetProcessor.createQuery(columns, index)));
+            else
+                queries.add(this.facetProcessor.createQuery(columns, index));
+        }
+        return this.facetProcessor.process(columns, queries);
+    }
+
+    // the queries run by the supplier are copied from the grid query, so its where clause is replaced
+    // by the predicate without the filter of the column while they are created
+    private <R> R withoutFilter(IGridColumn<T> column, Supplier<R> query) {
+        var predicate = this.filterProcessor.process(this.basePredicate, column);
+        predicate = this.searchProcessor.process(predicate);
+        predicate = this.groupProcessor.process(predicate);
+
+        setRestriction(predicate);
+        try {
+            return query.get();
+        }
+        finally {
+            setRestriction(this.predicate);
+        }
+    }
+
+    // a where clause without predicates removes the previous restriction
+    private void setRestriction(Predicate predicate) {
+        if (predicate != null)
+            this.criteriaQuery.where(predicate);
+        else
+            this.criteriaQuery.where(new Predicate[0]);
+    }
+
+    /**
+     * Writes all the filtered, searched and sorted items of the grid to an output stream, without paging.
+     * Only the values of the visible columns are selected, and the rows are streamed from the database in batches
+     * of the fetch size, if the JDBC driver honors it. The count and totals of the grid are not calculated.
+     *
+     * @param outputStream the output stream where the items are written with UTF-8 encoding
+     * @param format the format of the export
+     * @param fetchSize the number of rows fetched from the database in each round trip
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    public long export(OutputStream outputStream, ExportFormat format, int fetchSize) throws IOException {
+        buildPredicate();
+        buildOrder();
+
+        var exporter = new GridExporter<T>(this);
+        exporter.setFetchSize(fetchSize);
+        return exporter.export(this.criteriaQuery, outputStream, format);
+    }
+
     protected void prepareItemsToDisplay() {
         preProcess();
         if (!this.itemsProcessed) {
             this.itemsProcessed = true;
-            this.orderList = this.sortProcessor.process(this.orderList);
-            if(this.orderList != null && ! this.orderList.isEmpty())
-                this.criteriaQuery.orderBy(this.orderList);
+            buildOrder();
+
+            if (this.pagingType == PagingType.KEYSET) {
+                if (isNoCountApplied()) {
+                    var page = ((PagerProcessor<T>)this.pagerProcessor).processKeysetWithNextPage(this.criteriaQuery);
+                    this.itemsCount = page.getValue();
+                    this.itemsToList = page.getKey();
+                }
+                else
+                    this.itemsToList = ((PagerProcessor<T>)this.pagerProcessor).processKeyset(this.criteriaQuery, getItemsCount());
+                return;
+            }
+
+            if (isProjectionApplied()) {
+                var pagerProcessor = (PagerProcessor<T>)this.pagerProcessor;
+                if (isNoCountApplied()) {
+                    var page = pagerProcessor.processProjectionWithNextPage(this.criteriaQuery);
+                    this.itemsCount = page.getValue();
+                    this.projectedItemsToList = page.getKey();
+                }
+                else if (!this.countProcessor.isExact()) {
+                    var page = pagerProcessor.processProjectionWithApproximateCount(this.criteriaQuery,
+                            getItemsCount());
+                    this.itemsCount = page.getValue();
+                    this.projectedItemsToList = page.getKey();
+                }
+                else
+                    this.projectedItemsToList = pagerProcessor.processProjection(this.criteriaQuery, getItemsCount());
+                return;
+            }
+
+            if (isNoCountApplied()) {
+                var page = ((PagerProcessor<T>)this.pagerProcessor).processWithNextPage(this.criteriaQuery);
+                this.itemsCount = page.getValue();
+                this.itemsToList = page.getKey();
+                return;
+            }
+
+            if (isWindowCountApplied()) {
+                var page = ((PagerProcessor<T>)this.pagerProcessor).processWithWindowCount(this.criteriaQuery);
+                if (page != null) {
+                    this.itemsCount = page.getValue();
+                    this.itemsToList = page.getKey();
+                    return;
+                }
+                // page after the last one, count it and fetch the last page
+                this.itemsCount = this.countProcessor.process(this.predicate);
+            }
+
+            if (!this.countProcessor.isExact()) {
+                // the count is capped or estimated, so the page is not limited by it
+                var page = ((PagerProcessor<T>)this.pagerProcessor).processWithApproximateCount(this.criteriaQuery,
+                        getItemsCount());
+                this.itemsCount = page.getValue();
+                this.itemsToList = page.getKey();
+                return;
+            }
+
             this.itemsToList = ((PagerProcessor<T>)this.pagerProcessor).process(this.criteriaQuery, getItemsCount()).getResultList();
         }
     }
 
+    /**
+     * Runs the count, totals and page queries of the grid concurrently.
+     * Each query is executed with its own entity manager created by the given factory, so the items to display
+     * are detached entities. The to-one associations of the columns are loaded with the items using an entity graph,
+     * as if {@link #setFetchGraph(boolean)} was enabled, so they can be read after the entity managers are closed.
+     * The results are available with the usual methods when the returned future completes.
+     * The queries are executed sequentially with a single entity manager created by the factory if any custom
+     * process function is set, or if the count is retrieved with the page query.
+     *
+     * @param entityManagerFactory the factory used to create the entity manager of each query
+     * @param executor the executor used to run the queries
+     * @return a future that completes when all the queries have finished
+     */
+    public CompletableFuture<Void> processAsync(EntityManagerFactory entityManagerFactory, Executor executor) {
+
+        if (executor == null)
+            throw new IllegalArgumentException("executor");
+
+        // the items are detached, so their lazy associations can't be loaded when they are read
+        this.fetchGraph = true;
+
+        if (this.itemsPreProcessed || this.itemsProcessed || !isConcurrencyApplied())
+            return CompletableFuture.runAsync(() -> withEntityManager(entityManagerFactory,
+                    () -> { prepareItemsToDisplay(); return null; }), executor);
+
+        this.itemsPreProcessed = true;
+        this.itemsProcessed = true;
+        buildPredicate();
+        buildOrder();
+        var predicate = this.predicate;
+
+        // the page query runs on a copy, so the count and totals queries are built without the order
+        CriteriaQuery<T> pageQuery = ((SqmSelectStatement<T>) this.criteriaQuery).copy(SqmCopyContext.simpleContext());
+        var orders = new ArrayList<>(this.criteriaQuery.getOrderList());
+        this.criteriaQuery.orderBy(new ArrayList<Order>());
+
+        CompletableFuture<Long> countFuture = CompletableFuture.supplyAsync(() -> withEntityManager(entityManagerFactory,
+                () -> this.fusedCount ? this.totalsProcessor.processWithCount(predicate)
+                        : this.countProcessor.process(predicate)), executor)
+                .thenApply(count -> this.itemsCount = count);
+
+        // calculations can use the items count, so they must wait for it
+        CompletableFuture<Void> totalsFuture;
+        if (this.fusedCount)
+            totalsFuture = countFuture.thenAccept(count -> {});
+        else if (isCalculationEnabled())
+            totalsFuture = countFuture.thenAcceptAsync(count -> withEntityManager(entityManagerFactory,
+                    () -> { this.totalsProcessor.process(predicate); return null; }), executor);
+        else
+            totalsFuture = CompletableFuture.runAsync(() -> withEntityManager(entityManagerFactory,
+                    () -> { this.totalsProcessor.process(predicate); return null; }), executor);
+
+        // the page is fetched before knowing the count, so it is fetched again if the pager moves to another page
+        var pager = this.pagerProcessor != null ? getPager() : null;
+        int currentPage = pager != null ? pager.getCurrentPage() : 0;
+        int pageSize = pager != null ? pager.getPageSize() : 0;
+        CompletableFuture<List<T>> pageFuture = CompletableFuture.supplyAsync(() -> withEntityManager(entityManagerFactory,
+                () -> getPageItems(pageQuery)), executor);
+
+        return CompletableFuture.allOf(countFuture, totalsFuture, pageFuture).thenRun(() -> {
+            var items = pageFuture.join();
+            if (pager != null) {
+                pager.initialize(countFuture.join(), this.countProcessor.isExact());
+                if (pager.getCurrentPage() != currentPage || pager.getPageSize() != pageSize)
+                    items = withEntityManager(entityManagerFactory, () -> getPageItems(pageQuery));
+            }
+            this.itemsToList = items;
+        }).whenComplete((r, e) -> {
+            // the order is restored even if a query fails, and the items can be processed again
+            this.criteriaQuery.orderBy(orders);
+            if (e != null) {
+                this.itemsPreProcessed = false;
+                this.itemsProcessed = false;
+            }
+        });
+    }
+
+    private List<T> getPageItems(CriteriaQuery<T> pageQuery) {
+        if (this.pagerProcessor == null)
+            return createQuery(pageQuery).getResultList();
+        return ((PagerProcessor<T>)this.pagerProcessor).process(pageQuery).getResultList();
+    }
+
+    /**
+     * Runs the queries of the grid with an entity manager created by the given factory, instead of the grid
+     * entity manager, so they can be executed by a thread of an executor. The entity manager is closed when
+     * the queries have finished.
+     *
+     * @param entityManagerFactory the factory used to create the entity manager
+     * @param query the function running the queries
+     * @return the result of the function
+     * @param <R> the type of the result
+     */
+    public <R> R withEntityManager(EntityManagerFactory entityManagerFactory, Supplier<R> query) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        this.boundEntityManager.set(entityManager);
+        try {
+            return query.get();
+        }
+        finally {
+            this.boundEntityManager.remove();
+            entityManager.close();
+        }
+    }
+
+    private boolean isConcurrencyApplied() {
+        return this.countProcessor.getProcess() == null && this.totalsProcessor.getProcess() == null
+                && (this.pagerProcessor == null || ((PagerProcessor<T>)this.pagerProcessor).getProcess() == null)
+                && this.pagingType != PagingType.KEYSET && !isWindowCountApplied() && !isNoCountApplied() && !isProjectionApplied();
+    }
+
+    // keyset pagination requires a unique order, so the primary key columns are always added at the end
+    private void addKeysetTiebreakers() {
+        this.orderList = this.orderList == null ? new ArrayList<>() : new ArrayList<>(this.orderList);
+
+        for (var column : this.columns.values()) {
+            if (!column.isPrimaryKey() || column.getOrderers().isEmpty())
+                continue;
+
+            var order = column.getOrderers().get(0).applyOrder(this.criteriaBuilder, this.criteriaQuery,
+                    this.root, GridSortDirection.ASCENDING);
+            if (order != null && this.orderList.stream()
+                    .noneMatch(r -> r.getExpression().equals(order.getExpression()))) {
+                this.orderList.add(order);
+            }
+        }
+    }
+
+    private boolean isProjectionApplied() {
+        return this.projection && this.pagingType != PagingType.KEYSET && this.pagerProcessor != null
+                && ((PagerProcessor<T>)this.pagerProcessor).getProcess() == null;
+    }
+
+    private boolean isNoCountApplied() {
+        return this.noCount && (this.pagingType == PagingType.PAGINATION || this.pagingType == PagingType.VIRTUALIZATION
+                || this.pagingType == PagingType.KEYSET);
+    }
+
+    private boolean isWindowCountApplied() {
+        return this.windowCount && !this.fusedCount && !this.noCount && !this.countProcessor.isApproximationEnabled()
+                && !isProjectionApplied()
+                && (this.pagingType == PagingType.PAGINATION || this.pagingType == PagingType.VIRTUALIZATION)
+                && !isSumEnabled() && !isAverageEnabled() && !isMaxEnabled() && !isMinEnabled()
+                && !isCalculationEnabled();
+    }
+
     /**
      * Applies the grid settings defined by the {@link GridTable} annotation.
      * If the annotation is not present or the paging type is set to {@link PagingType#NONE},
      * no settings are applied.
      *
-     * If the paging type is set to {@link PagingType#PAGINATION}, the method sets the page size
+     * If the paging type is set to {@link PagingType#PAGINATION} or {@link PagingType#KEYSET}, the method sets the page size
      * and maximum displayed pages on the grid's pager if the values in the annotation are greater than 0.
      *
      * @see GridTable
@@ -443,7 +1070,7 @@ public class Grid<T> implements IGrid<T> {
         if (opt == null) return;
         setPagingType(opt.pagingType());
 
-        if (getPagingType() == PagingType.PAGINATION)
+        if (getPagingType() == PagingType.PAGINATION || getPagingType() == PagingType.KEYSET)
         {
             if (opt.pageSize() > 0)
                 this.getPager().setPageSize(opt.pageSize());
@@ -1,9 +1,18 @@
 package me.agno.gridjavacore;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
+import me.agno.gridjavacore.columns.CollectionCountProcessor;
 import me.agno.gridjavacore.columns.GridColumnCollection;
+import me.agno.gridjavacore.export.ExportFormat;
+import me.agno.gridjavacore.filtering.DistinctValuesProcessor;
+import me.agno.gridjavacore.filtering.FacetProcessor;
 import me.agno.gridjavacore.filtering.FilterProcessor;
+import me.agno.gridjavacore.filtering.types.ITextPredicateStrategy;
+import me.agno.gridjavacore.grouping.GroupDTO;
+import me.agno.gridjavacore.grouping.GroupProcessor;
 import me.agno.gridjavacore.pagination.IGridPager;
 import me.agno.gridjavacore.pagination.IPagerProcessor;
 import me.agno.gridjavacore.pagination.PagingType;
@@ -14,8 +23,14 @@ import me.agno.gridjavacore.totals.CountProcessor;
 import me.agno.gridjavacore.totals.TotalsDTO;
 import me.agno.gridjavacore.totals.TotalsProcessor;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Interface representing a grid that displays data based on a given query and provides filtering, sorting, searching, and pagination functionality.
@@ -52,9 +67,82 @@ public interface IGrid<T> extends IGridOptions{
      * Retrieves the items to display in the grid.
      *
      * @return the list of items to display
+     * @throws IllegalStateException if the projection is applied, and the items must be retrieved with
+     *                               getProjectedItemsToDisplay
      */
     List<T> getItemsToDisplay();
 
+    /**
+     * Retrieves the projected items to display in the grid.
+     * Each item is a map with the values of the grid columns, nested by the path of the column expressions.
+     *
+     * @return the list of projected items to display
+     * @throws IllegalStateException if the projection is not applied, because it is disabled or the grid uses
+     *                               no paging, keyset paging or a custom pager process function
+     */
+    List<Map<String, Object>> getProjectedItemsToDisplay();
+
+    /**
+     * Retrieves the groups of the filtered and searched items of the grid for the given group columns.
+     *
+     * @param columnNames the names of the group columns
+     * @param maxGroups the maximum number of groups to retrieve, or 0 to retrieve all the groups
+     * @return the list of groups sorted by the group key values
+     */
+    List<GroupDTO> getGroups(List<String> columnNames, int maxGroups);
+
+    /**
+     * Retrieves the distinct non-null values of a column for the filtered, searched and grouped items of the grid.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values of a string column, compared as a starts-with filter, or null to retrieve
+     *               all the values
+     * @param excludeOwnFilter true if the filter of the column is not applied
+     * @return the list of distinct values sorted ascending
+     */
+    List<Object> getDistinctValues(String columnName, int limit, String prefix, boolean excludeOwnFilter);
+
+    /**
+     * Counts the filtered, searched and grouped items of the grid for each non-null value of the given columns,
+     * without applying the filter of each column to its own counts.
+     *
+     * @param columnNames the names of the facet columns
+     * @return the counts of the values of each column keyed by the column name, sorted by value
+     */
+    Map<String, Map<Object, Long>> getFacets(List<String> columnNames);
+
+    /**
+     * Writes all the filtered, searched and sorted items of the grid to an output stream, without paging.
+     *
+     * @param outputStream the output stream where the items are written
+     * @param format the format of the export
+     * @param fetchSize the number of rows fetched from the database in each round trip
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    long export(OutputStream outputStream, ExportFormat format, int fetchSize) throws IOException;
+
+    /**
+     * Runs the count, totals and page queries of the grid concurrently, each one with its own entity manager.
+     *
+     * @param entityManagerFactory the factory used to create the entity manager of each query
+     * @param executor the executor used to run the queries
+     * @return a future that completes when all the queries have finished
+     */
+    CompletableFuture<Void> processAsync(EntityManagerFactory entityManagerFactory, Executor executor);
+
+    /**
+     * Runs the queries of the grid with an entity manager created by the given factory, so they can be executed
+     * by a thread of an executor.
+     *
+     * @param entityManagerFactory the factory used to create the entity manager
+     * @param query the function running the queries
+     * @return the result of the function
+     * @param <R> the type of the result
+     */
+    <R> R withEntityManager(EntityManagerFactory entityManagerFactory, Supplier<R> query);
+
     /**
      * Retrieves the count of items currently being displayed in the grid.
      *
@@ -108,6 +196,183 @@ public interface IGrid<T> extends IGridOptions{
      */
     void setRemoveDiacritics(String removeDiacritics);
 
+    /**
+     * Retrieves the strategy used to compare the text columns with the filter and search values.
+     *
+     * @return the text predicate strategy
+     */
+    ITextPredicateStrategy getTextPredicateStrategy();
+
+    /**
+     * Sets the strategy used to compare the text columns with the filter and search values.
+     *
+     * @param textPredicateStrategy the text predicate strategy
+     */
+    void setTextPredicateStrategy(ITextPredicateStrategy textPredicateStrategy);
+
+    /**
+     * Checks if all the column totals are calculated with a single aggregate query.
+     *
+     * @return true if the totals are calculated with a single query, false if a query is executed for each total
+     */
+    boolean isFusedTotals();
+
+    /**
+     * Sets whether all the column totals are calculated with a single aggregate query.
+     *
+     * @param fusedTotals true to calculate the totals with a single query, false to execute a query for each total
+     */
+    void setFusedTotals(boolean fusedTotals);
+
+    /**
+     * Checks if the items count is calculated in the same aggregate query as the column totals.
+     *
+     * @return true if the count is calculated with the totals, false if it is calculated with a separate query
+     */
+    boolean isFusedCount();
+
+    /**
+     * Sets whether the items count is calculated in the same aggregate query as the column totals.
+     *
+     * @param fusedCount true to calculate the count with the totals, false to calculate it with a separate query
+     */
+    void setFusedCount(boolean fusedCount);
+
+    /**
+     * Checks if the items count is retrieved with a window function in the same query as the page items.
+     *
+     * @return true if the count is retrieved with the page items, false otherwise
+     */
+    boolean isWindowCount();
+
+    /**
+     * Sets whether the items count is retrieved with a window function in the same query as the page items.
+     * It is only applied to paged grids without totals.
+     *
+     * @param windowCount true to retrieve the count with the page items, false to calculate it with a separate query
+     */
+    void setWindowCount(boolean windowCount);
+
+    /**
+     * Checks if the duplicated filters are calculated with a window function instead of a GROUP BY subquery.
+     *
+     * @return true if the duplicated filters use a window function, false otherwise
+     */
+    boolean isWindowDuplicates();
+
+    /**
+     * Sets whether the duplicated filters are calculated with a window function instead of a GROUP BY subquery.
+     * It is only applied to entities with a single identifier and to columns that are not collections.
+     *
+     * @param windowDuplicates true to use a window function, false to use a GROUP BY subquery
+     */
+    void setWindowDuplicates(boolean windowDuplicates);
+
+    /**
+     * Checks if the items count query is skipped, so only the existence of a next page is checked.
+     *
+     * @return true if the count query is skipped, false otherwise
+     */
+    boolean isNoCount();
+
+    /**
+     * Sets whether the items count query is skipped, so only the existence of a next page is checked.
+     * It is only applied to paginated and virtualized grids.
+     *
+     * @param noCount true to skip the count query, false to count the items
+     */
+    void setNoCount(boolean noCount);
+
+    /**
+     * Checks if the page query selects only the expressions of the grid columns instead of the entities.
+     *
+     * @return true if the grid columns are projected, false otherwise
+     */
+    boolean isProjection();
+
+    /**
+     * Sets whether the page query selects only the expressions of the grid columns instead of the entities.
+     * It is not applied to grids using keyset pagination or a custom pager process function.
+     *
+     * @param projection true to select only the grid columns, false to select the entities
+     */
+    void setProjection(boolean projection);
+
+    /**
+     * Checks if the to-one associations navigated by the column expressions are loaded with the page items.
+     *
+     * @return true if the associations are loaded using an entity graph, false otherwise
+     */
+    boolean isFetchGraph();
+
+    /**
+     * Sets whether the to-one associations navigated by the column expressions are loaded with the page items,
+     * using an entity graph.
+     *
+     * @param fetchGraph true to load the associations with the page items, false to use their fetch type
+     */
+    void setFetchGraph(boolean fetchGraph);
+
+    /**
+     * Checks if the grid queries are executed in read-only mode.
+     *
+     * @return true if the queries are read-only, false otherwise
+     */
+    boolean isReadOnly();
+
+    /**
+     * Sets whether the grid queries are executed in read-only mode, loading read-only entities
+     * and without flushing the persistence context before the queries.
+     *
+     * @param readOnly true to execute the queries in read-only mode, false otherwise
+     */
+    void setReadOnly(boolean readOnly);
+
+    /**
+     * Determines whether the grid queries are created from their HQL strings.
+     *
+     * @return true if the queries are created from HQL strings, false otherwise
+     */
+    boolean isHqlQueries();
+
+    /**
+     * Sets whether the grid queries are created from their HQL strings instead of the criteria queries,
+     * so they are cached by the Hibernate query plan cache.
+     *
+     * @param hqlQueries true to create the queries from HQL strings, false otherwise
+     */
+    void setHqlQueries(boolean hqlQueries);
+
+    /**
+     * Creates a named parameter for a filter or search value of the grid, bound to the value when the
+     * queries of the grid are created.
+     *
+     * @param type the type of the parameter
+     * @param value the value bound to the parameter
+     * @return the parameter expression
+     * @param <X> the type of the parameter
+     */
+    <X> ParameterExpression<X> createParameter(Class<X> type, X value);
+
+    /**
+     * Creates a typed query for a criteria query of the grid, applying the query hints and binding the parameters of the grid.
+     *
+     * @param query the criteria query
+     * @return the typed query
+     * @param <X> the type of the query results
+     */
+    <X> TypedQuery<X> createQuery(CriteriaQuery<X> query);
+
+    /**
+     * Binds the named parameters of the grid contained in a typed query to their values. It must be used by the
+     * custom count, totals and pager process functions that create their typed queries with the entity manager.
+     *
+     * @param typedQuery the typed query
+     * @return the same typed query
+     * @param <X> the type of the query results
+     */
+    <X> TypedQuery<X> bindParameters(TypedQuery<X> typedQuery);
+
     /**
      * Retrieves the count of items to be displayed in the grid.
      *
@@ -156,6 +421,34 @@ public interface IGrid<T> extends IGridOptions{
      */
     CountProcessor<T> getCountProcessor();
 
+    /**
+     * Retrieves the GroupProcessor object used for grouping the grid items.
+     *
+     * @return the GroupProcessor object
+     */
+    GroupProcessor<T> getGroupProcessor();
+
+    /**
+     * Retrieves the DistinctValuesProcessor object used for retrieving the distinct values of the columns.
+     *
+     * @return the DistinctValuesProcessor object
+     */
+    DistinctValuesProcessor<T> getDistinctValuesProcessor();
+
+    /**
+     * Retrieves the FacetProcessor object used for counting the items for each value of the facet columns.
+     *
+     * @return the FacetProcessor object
+     */
+    FacetProcessor<T> getFacetProcessor();
+
+    /**
+     * Retrieves the CollectionCountProcessor object used for counting the subgrid items of the collection columns.
+     *
+     * @return the CollectionCountProcessor object
+     */
+    CollectionCountProcessor<T> getCollectionCountProcessor();
+
     /**
      * Retrieves the pager object used for pagination in the grid.
      *
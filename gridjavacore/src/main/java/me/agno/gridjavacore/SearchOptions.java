@@ -76,6 +76,52 @@ public class SearchOptions {
      */
     private boolean splittedWords = false;
 
+    /**
+     * The relevanceOrder variable represents the flag indicating whether the grid items are sorted by the relevance
+     * returned by the search engine when they are not sorted by any column.
+     * It is only applied if a search engine is set on the grid. By default, it is set to {@code false}.
+     *
+     * @see me.agno.gridjavacore.searching.ISearchEngine
+     */
+    private boolean relevanceOrder = false;
+
+    /**
+     * The engineHits variable represents the maximum number of identifiers returned by the search engine that are
+     * added to the grid query. The identifiers are sent to the database as a single list parameter, that is padded
+     * to the next power of two, so the number of JDBC parameters stays below the limits of the databases.
+     * If the search engine returns at least this number of identifiers, more items can match the search value,
+     * so the items count of the grid is reported as not exact.
+     * It is only applied if a search engine is set on the grid. By default, it is set to 1000.
+     *
+     * @see me.agno.gridjavacore.searching.ISearchEngine
+     */
+    private int engineHits = 1000;
+
+    /**
+     * The relevanceHits variable represents the number of the first identifiers returned by the search engine that
+     * are sorted by relevance when the relevanceOrder option is enabled. Each of them is compared with its own
+     * parameter in the order expression, and the rest of the hits are sorted after them.
+     * By default, it is set to 100.
+     *
+     * @see me.agno.gridjavacore.searching.ISearchEngine
+     */
+    private int relevanceHits = 100;
+
+    /**
+     * The typedColumns variable represents the flag indicating whether the search value is parsed with the type of
+     * each non-text column when all the columns are searched, instead of converting the columns to text.
+     *
+     * <p>
+     * A value of {@code true} compares the columns whose type accepts the search value with equality predicates,
+     * that can use the indexes of the columns, and skips the other columns. A value of {@code false} compares
+     * the text of every column with the search value using a {@code like} predicate.
+     * It is only applied if {@code onlyTextColumns} is {@code false}. By default, it is set to {@code false}.
+     * </p>
+     *
+     * @see SearchOptions
+     */
+    private boolean typedColumns = false;
+
     /**
      * Constructs a new SearchOptions instance with the specified enabled flag.
      *
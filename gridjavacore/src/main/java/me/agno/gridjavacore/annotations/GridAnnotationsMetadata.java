@@ -0,0 +1,119 @@
+package me.agno.gridjavacore.annotations;
+
+import jakarta.persistence.Column;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * The GridAnnotationsMetadata class contains the grid annotations declared on a class.
+ * The declared fields of a class are read by reflection only once, the first time the metadata of the class is
+ * requested, and the metadata is cached in a {@link ClassValue}, so the grids created for each request read
+ * the annotations from memory. The cache doesn't prevent the classes from being unloaded.
+ */
+@Getter
+final class GridAnnotationsMetadata {
+
+    private static final ClassValue<GridAnnotationsMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected GridAnnotationsMetadata computeValue(Class<?> type) {
+            return new GridAnnotationsMetadata(type);
+        }
+    };
+
+    /**
+     * The {@link GridTable} annotation of the class, or null if not present.
+     */
+    private final GridTable table;
+
+    /**
+     * The {@link GridColumn} annotations of the declared fields of the class by field name.
+     * The fields without the annotation are not included.
+     */
+    private final Map<String, GridColumn> columns;
+
+    /**
+     * The names of the declared fields of the class annotated with {@link NotMappedColumn}.
+     */
+    private final Set<String> notMappedColumns;
+
+    /**
+     * The fields of the class annotated with {@link Column} and their {@link GridColumn} annotation,
+     * sorted by the position of the {@link GridColumn} annotation.
+     */
+    private final List<Map.Entry<String, GridColumn>> tableColumns;
+
+    private GridAnnotationsMetadata(Class<?> type) {
+
+        this.table = type.getAnnotation(GridTable.class);
+
+        Map<String, GridColumn> columns = new HashMap<>();
+        Set<String> notMappedColumns = new HashSet<>();
+        List<Field> tableFields = new ArrayList<>();
+
+        for (var field : type.getDeclaredFields()) {
+            var columnAnnotation = field.getAnnotation(GridColumn.class);
+            if (columnAnnotation != null)
+                columns.put(field.getName(), columnAnnotation);
+
+            if (field.getAnnotation(NotMappedColumn.class) != null)
+                notMappedColumns.add(field.getName());
+
+            if (field.getAnnotation(Column.class) != null)
+                tableFields.add(field);
+        }
+
+        // the fields without position are placed after the positioned ones, keeping their declaration order
+        tableFields.sort((o1, o2) -> {
+            var c1 = columns.get(o1.getName());
+            var c2 = columns.get(o2.getName());
+            if (c1 == null && c2 == null)
+                return 0;
+            else if (c1 == null)
+                return 1;
+            else if (c2 == null)
+                return -1;
+            else
+                return Integer.compare(c1.position(), c2.position());
+        });
+
+        List<Map.Entry<String, GridColumn>> tableColumns = new ArrayList<>();
+        for (var field : tableFields)
+            tableColumns.add(new AbstractMap.SimpleImmutableEntry<>(field.getName(), columns.get(field.getName())));
+
+        this.columns = Collections.unmodifiableMap(columns);
+        this.notMappedColumns = Collections.unmodifiableSet(notMappedColumns);
+        this.tableColumns = Collections.unmodifiableList(tableColumns);
+    }
+
+    /**
+     * Retrieves the cached grid annotations metadata of a class.
+     *
+     * @param type the class whose metadata is retrieved
+     * @return the metadata of the class
+     */
+    static GridAnnotationsMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Retrieves the {@link GridColumn} annotation of a declared field.
+     *
+     * @param name the name of the field
+     * @return the annotation, or null if the field doesn't exist or is not annotated
+     */
+    GridColumn getColumn(String name) {
+        return this.columns.get(name);
+    }
+
+    /**
+     * Determines whether a declared field is annotated with {@link NotMappedColumn}.
+     *
+     * @param name the name of the field
+     * @return true if the field is not mapped, false otherwise
+     */
+    boolean isNotMapped(String name) {
+        return this.notMappedColumns.contains(name);
+    }
+}
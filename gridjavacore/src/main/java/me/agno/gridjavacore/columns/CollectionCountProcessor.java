@@ -0,0 +1,169 @@
+package me.agno.gridjavacore.columns;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import me.agno.gridjavacore.IGrid;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The CollectionCountProcessor class calculates the number of subgrid items of the collection columns.
+ * Instead of a correlated subquery for each item of the grid, the subgrid items are counted once by their keys
+ * in a grouped derived table, that is left joined to the root of the grid query:
+ * {@code left join (select keys, count(1) from Subgrid group by keys) c on c.keys = root.keys}.
+ * The join is only added to the grid root by the filters, sort orders and search of the column, once per column,
+ * and it is kept by the copies of the grid query, as the count and totals queries. The totals of a column without
+ * join in the grid query add it to their own copy of the query, so the page query never contains it.
+ *
+ * @param <T> the type of the grid items
+ */
+public class CollectionCountProcessor<T> {
+
+    private static final String KEY_ALIAS = "countKey";
+
+    private static final String COUNT_ALIAS = "collectionCount";
+
+    private final IGrid<T> grid;
+
+    // count paths of the derived joins added to the grid root, keyed by column name
+    private final Map<String, Path<Long>> counts = new ConcurrentHashMap<>();
+
+    // aliases of the derived joins, kept by the copies of the grid query
+    private final Map<String, String> aliases = new ConcurrentHashMap<>();
+
+    private final AtomicInteger joinCount = new AtomicInteger();
+
+    /**
+     * Constructs a CollectionCountProcessor object.
+     *
+     * @param grid the grid whose collection columns are counted
+     */
+    public CollectionCountProcessor(IGrid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Returns the number of subgrid items of a collection column for each item of the grid query.
+     * The derived join of the column is added to the grid root the first time the count is requested.
+     *
+     * @param column the collection column, whose expression ends with ".count"
+     * @return the count expression, 0 for the items without subgrid items, or null if the column expression
+     *         or the subgrid keys are not valid
+     */
+    public Expression<Long> process(GridCoreColumn<T, ?> column) {
+
+        if (!isValid(column))
+            return null; //incorrect column name
+
+        var count = this.counts.computeIfAbsent(column.getName(),
+                r -> join(column, (JpaRoot<?>) this.grid.getRoot(), true));
+        return this.grid.getCriteriaBuilder().coalesce(count, 0L);
+    }
+
+    /**
+     * Returns the number of subgrid items of a collection column for each item of a copy of the grid query,
+     * as the totals queries. If the root is the root of the grid query, the count is the one returned by
+     * {@link #process(GridCoreColumn)}. The derived join of the column is reused if the filters, sort orders or search of
+     * the column added it to the grid root before the copy was created. Otherwise, it is only added to the root
+     * of the copy, so the grid query doesn't change while the totals are calculated in parallel with the items.
+     *
+     * @param column the collection column, whose expression ends with ".count"
+     * @param root the root of the copy of the grid query
+     * @return the count expression, 0 for the items without subgrid items, or null if the column expression
+     *         or the subgrid keys are not valid
+     */
+    public Expression<Long> process(GridCoreColumn<T, ?> column, Root<?> root) {
+
+        if (root == this.grid.getRoot())
+            return process(column);
+
+        if (!isValid(column))
+            return null; //incorrect column name
+
+        String alias = this.aliases.get(column.getName());
+        var countJoin = alias == null ? null : ((SqmRoot<?>) root).getSqmJoins().stream()
+                .filter(r -> alias.equals(r.getExplicitAlias()))
+                .findFirst().orElse(null);
+        var count = countJoin != null ? countJoin.<Long>get(COUNT_ALIAS) : join(column, (JpaRoot<?>) root, false);
+        return this.grid.getCriteriaBuilder().coalesce(count, 0L);
+    }
+
+    /**
+     * Returns a correlated subquery counting the subgrid items of a collection column for each item of a query.
+     * The subquery is evaluated for each item, so {@link #process(GridCoreColumn, Root)} should be used instead.
+     * It is kept for the deprecated {@code getCollectionCount} methods returning a subquery.
+     *
+     * @param column the collection column, whose expression ends with ".count"
+     * @param query the query containing the subquery
+     * @param root the root of the query
+     * @return the count subquery, or null if the column expression is not valid
+     */
+    public Subquery<Long> subquery(GridCoreColumn<T, ?> column, CommonAbstractCriteria query, Root<?> root) {
+
+        String[] names = column.getExpression().split("\\.");
+        if (names.length < 2 || !names[names.length - 1].equalsIgnoreCase("count"))
+            return null; //incorrect column name
+
+        var cb = this.grid.getCriteriaBuilder();
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<?> subRoot = subquery.from(column.getSubgridTargetType());
+
+        Predicate[] predicates = new Predicate[column.getSubgridKeys().length];
+        for (int i = 0; i < column.getSubgridKeys().length; i++) {
+            predicates[i] = cb.equal(root.get(column.getSubgridKeys()[i].getKey()),
+                    subRoot.get(column.getSubgridKeys()[i].getValue()));
+        }
+
+        return subquery.select(cb.count(cb.literal(1)))
+                .where(predicates);
+    }
+
+    private boolean isValid(GridCoreColumn<T, ?> column) {
+        String[] names = column.getExpression().split("\\.");
+        return names.length >= 2 && names[names.length - 1].equalsIgnoreCase("count")
+                && column.getSubgridTargetType() != null && column.getSubgridKeys() != null
+                && column.getSubgridKeys().length > 0;
+    }
+
+    private Path<Long> join(GridCoreColumn<T, ?> column, JpaRoot<?> root, boolean gridRoot) {
+
+        var cb = this.grid.getCriteriaBuilder();
+        var keys = column.getSubgridKeys();
+
+        var countQuery = (SqmSubQuery<Tuple>) this.grid.getCriteriaQuery().subquery(Tuple.class);
+        Root<?> countRoot = countQuery.from(column.getSubgridTargetType());
+
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Expression<?>> groupKeys = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            Path<Object> key = countRoot.get(keys[i].getValue());
+            selections.add(key.alias(KEY_ALIAS + i));
+            groupKeys.add(key);
+        }
+        selections.add(cb.count(cb.literal(1)).alias(COUNT_ALIAS));
+        countQuery.multiselect(selections);
+        countQuery.groupBy(groupKeys);
+
+        // the items without subgrid items are kept by the left join
+        String alias = COUNT_ALIAS + this.joinCount.getAndIncrement();
+        var countJoin = root.join(countQuery, SqmJoinType.LEFT);
+        countJoin.alias(alias);
+        if (gridRoot)
+            this.aliases.put(column.getName(), alias);
+
+        Predicate[] predicates = new Predicate[keys.length];
+        for (int i = 0; i < keys.length; i++)
+            predicates[i] = cb.equal(root.get(keys[i].getKey()), countJoin.get(KEY_ALIAS + i));
+        countJoin.on(predicates);
+
+        return countJoin.get(COUNT_ALIAS);
+    }
+}
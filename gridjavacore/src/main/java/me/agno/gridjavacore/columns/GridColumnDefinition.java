@@ -0,0 +1,208 @@
+package me.agno.gridjavacore.columns;
+
+import lombok.Getter;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.filtering.ColumnFilterValue;
+import me.agno.gridjavacore.filtering.types.IFilterType;
+import me.agno.gridjavacore.sorting.GridSortDirection;
+import me.agno.gridjavacore.sorting.GridSortMode;
+import me.agno.gridjavacore.sorting.IColumnOrderer;
+import me.agno.gridjavacore.sorting.OrderByGridOrderer;
+import me.agno.gridjavacore.sorting.ThenByColumnOrderer;
+import me.agno.gridjavacore.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The GridColumnDefinition class contains the settings of a grid column compiled once from a configured column.
+ * It doesn't keep any reference to a grid or any per-request state, so it can be shared by the grids of all the
+ * requests. The filter type of the column data is resolved when the definition is compiled, and the secondary
+ * orderers are compiled as definitions of their columns.
+ * A grid binds the definition with {@link GridCoreColumn#GridCoreColumn(GridColumnDefinition, me.agno.gridjavacore.IGrid)},
+ * without executing the column configuration or reading the annotations of the grid type again.
+ *
+ * @param <T> the type of the grid data
+ */
+@Getter
+public final class GridColumnDefinition<T> {
+
+    /**
+     * The expression of the column, or null if the column doesn't have an expression.
+     */
+    private final String expression;
+
+    /**
+     * The name of the column.
+     */
+    private final String name;
+
+    /**
+     * The field name of the column.
+     */
+    private final String fieldName;
+
+    /**
+     * The class representing the target type of the column data.
+     */
+    private final Class<?> targetType;
+
+    /**
+     * The filter type of the column data, resolved from the target type.
+     */
+    private final IFilterType<T, ?> filterType;
+
+    /**
+     * Indicates whether the column is hidden.
+     */
+    private final boolean hidden;
+
+    /**
+     * Indicates whether the column is a primary key.
+     */
+    private final boolean primaryKey;
+
+    /**
+     * Indicates whether the column is an auto-generated key.
+     */
+    private final boolean autoGeneratedKey;
+
+    /**
+     * Indicates whether the filter is enabled for the column.
+     */
+    private final boolean filterEnabled;
+
+    /**
+     * The initial filter settings of the column, or null if the column doesn't have an initial filter.
+     */
+    private final ColumnFilterValue initialFilterSettings;
+
+    /**
+     * Indicates whether the sorting of the column was defined by the column configuration.
+     */
+    private final boolean columnSortDefined;
+
+    /**
+     * Indicates whether sorting is enabled for the column.
+     */
+    private final boolean sortEnabled;
+
+    /**
+     * The sorting mode of the column.
+     */
+    private final GridSortMode sortMode;
+
+    /**
+     * The initial sort direction of the column, or null if the column doesn't have an initial sort direction.
+     */
+    private final GridSortDirection initialDirection;
+
+    /**
+     * The definitions of the columns used for the secondary sorting and their directions.
+     */
+    private final List<Pair<GridColumnDefinition<T>, GridSortDirection>> thenByColumns;
+
+    /**
+     * Indicates whether the sum calculation is enabled for the column.
+     */
+    private final boolean sumEnabled;
+
+    /**
+     * Indicates whether the average calculation is enabled for the column.
+     */
+    private final boolean averageEnabled;
+
+    /**
+     * Indicates whether the maximum calculation is enabled for the column.
+     */
+    private final boolean maxEnabled;
+
+    /**
+     * Indicates whether the minimum calculation is enabled for the column.
+     */
+    private final boolean minEnabled;
+
+    /**
+     * Indicates whether the calculations are enabled for the column.
+     */
+    private final boolean calculationEnabled;
+
+    /**
+     * The calculations of the column by name.
+     */
+    private final Map<String, Function<IGridColumnCollection<T>, Object>> calculations;
+
+    /**
+     * The foreign keys of the subgrid column, or null if the column is not a subgrid column.
+     */
+    private final Pair<String, String>[] subgridKeys;
+
+    /**
+     * The target type of the subgrid column, or null if the column is not a subgrid column.
+     */
+    private final Class<?> subgridTargetType;
+
+    /**
+     * The expression of the companion attribute without diacritics, or null if the column doesn't have one.
+     */
+    private final String normalizedExpression;
+
+    private GridColumnDefinition(GridCoreColumn<T, ?> column) {
+
+        this.expression = column.getExpression();
+        this.name = column.getName();
+        this.fieldName = column.getFieldName();
+        this.targetType = column.getTargetType();
+        this.filterType = this.targetType == null ? null : column.getFilterType();
+        this.hidden = column.isHidden();
+        this.primaryKey = column.isPrimaryKey();
+        this.autoGeneratedKey = column.isAutoGeneratedKey();
+        this.filterEnabled = column.isFilterEnabled();
+        this.initialFilterSettings = column.getInitialFilterSettings();
+        this.columnSortDefined = column.isColumnSortDefined();
+        this.sortEnabled = column.isSortEnabled();
+        this.sortMode = column.getSortMode();
+        this.initialDirection = column.getInitialDirection() == null ? null
+                : column.getInitialDirection().orElse(null);
+        this.sumEnabled = column.isSumEnabled();
+        this.averageEnabled = column.isAverageEnabled();
+        this.maxEnabled = column.isMaxEnabled();
+        this.minEnabled = column.isMinEnabled();
+        this.calculationEnabled = column.isCalculationEnabled();
+        this.calculations = Collections.unmodifiableMap(new LinkedHashMap<>(column.getCalculations()));
+        this.subgridKeys = column.getSubgridKeys();
+        this.subgridTargetType = column.getSubgridTargetType();
+        this.normalizedExpression = column.getNormalizedExpression();
+
+        List<Pair<GridColumnDefinition<T>, GridSortDirection>> thenByColumns = new ArrayList<>();
+        for (IColumnOrderer<T> orderer : column.getOrderers()) {
+            if (orderer instanceof ThenByColumnOrderer<T, ?> thenBy)
+                thenByColumns.add(new Pair<>(new GridColumnDefinition<>(thenBy.getColumn()),
+                        thenBy.getInitialDirection()));
+            else if (!(orderer instanceof OrderByGridOrderer))
+                throw new IllegalArgumentException("Column '" + this.name + "' has an orderer that can't be compiled");
+        }
+        this.thenByColumns = Collections.unmodifiableList(thenByColumns);
+    }
+
+    /**
+     * Compiles the definition of a configured grid column.
+     *
+     * @param column the configured column
+     * @return the definition of the column
+     * @param <T> the type of the grid data
+     * @throws IllegalArgumentException if the column is not a {@link GridCoreColumn} or has a custom orderer
+     */
+    public static <T> GridColumnDefinition<T> compile(IGridColumn<T> column) {
+
+        if (!(column instanceof GridCoreColumn<T, ?> coreColumn))
+            throw new IllegalArgumentException("Column '" + (column == null ? null : column.getName())
+                    + "' can't be compiled");
+
+        return new GridColumnDefinition<>(coreColumn);
+    }
+}
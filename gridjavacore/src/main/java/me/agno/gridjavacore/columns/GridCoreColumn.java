@@ -9,6 +9,8 @@ import me.agno.gridjavacore.filtering.ColumnFilterValue;
 import me.agno.gridjavacore.filtering.DefaultColumnFilter;
 import me.agno.gridjavacore.filtering.GridFilterType;
 import me.agno.gridjavacore.filtering.IColumnFilter;
+import me.agno.gridjavacore.filtering.types.FilterTypeResolver;
+import me.agno.gridjavacore.filtering.types.IFilterType;
 import me.agno.gridjavacore.searching.DefaultColumnSearch;
 import me.agno.gridjavacore.searching.IColumnSearch;
 import me.agno.gridjavacore.sorting.GridSortDirection;
@@ -73,6 +75,21 @@ public class GridCoreColumn<T, TData> implements IGridColumn<T> {
      */
     void setTargetType(Class<?> targetType) {
         this.targetType = (Class<TData>)targetType;
+        this.filterType = null;
+    }
+
+    private IFilterType<T, TData> filterType;
+
+    /**
+     * Retrieves the filter type of the column data, used to parse the filter and search values.
+     * It is resolved from the target type the first time it is requested.
+     *
+     * @return the filter type of the column data
+     */
+    public IFilterType<T, TData> getFilterType() {
+        if (this.filterType == null)
+            this.filterType = FilterTypeResolver.getDefault().getFilterType(this.targetType);
+        return this.filterType;
     }
 
     /**
@@ -334,6 +351,13 @@ public class GridCoreColumn<T, TData> implements IGridColumn<T> {
     @Getter
     private Class<?> subgridTargetType;
 
+    /**
+     * Represents the expression of a companion attribute containing the text of the column without diacritics,
+     * used instead of the column to filter and search when the diacritics are removed.
+     */
+    @Getter
+    private String normalizedExpression;
+
     /**
      * Represents a column in a grid.
      *
@@ -365,6 +389,48 @@ public class GridCoreColumn<T, TData> implements IGridColumn<T> {
         setCalculationValues(new LinkedHashMap<String, Total>());
     }
 
+    /**
+     * Represents a column of a grid bound to a compiled column definition.
+     * The settings and the filter type of the definition are copied to the column, so the column configuration
+     * and the annotations of the grid type are not processed again. The initial sort direction of the definition
+     * is applied to the sort settings of the grid if the request doesn't sort the grid.
+     *
+     * @param definition the compiled column definition
+     * @param grid the grid in which the column belongs to
+     */
+    public GridCoreColumn(GridColumnDefinition<T> definition, IGrid<T> grid) {
+        this(definition.getExpression(), (Class<TData>) definition.getTargetType(), grid);
+
+        this.name = definition.getName();
+        this.fieldName = definition.getFieldName();
+        this.filterType = (IFilterType<T, TData>) definition.getFilterType();
+        this.hidden = definition.isHidden();
+        setPrimaryKey(definition.isPrimaryKey(), definition.isAutoGeneratedKey());
+        this.filterEnabled = definition.isFilterEnabled();
+        if (definition.getInitialFilterSettings() != null)
+            setInitialFilter(definition.getInitialFilterSettings().getFilterType(),
+                    definition.getInitialFilterSettings().getFilterValue());
+        this.columnSortDefined = definition.isColumnSortDefined();
+        this.sortEnabled = definition.isSortEnabled();
+        this.sortMode = definition.getSortMode();
+        this.sumEnabled = definition.isSumEnabled();
+        this.averageEnabled = definition.isAverageEnabled();
+        this.maxEnabled = definition.isMaxEnabled();
+        this.minEnabled = definition.isMinEnabled();
+        this.calculationEnabled = definition.isCalculationEnabled();
+        this.calculations.putAll(definition.getCalculations());
+        this.subgridKeys = definition.getSubgridKeys();
+        this.subgridTargetType = definition.getSubgridTargetType();
+        this.normalizedExpression = definition.getNormalizedExpression();
+
+        for (var thenBy : definition.getThenByColumns())
+            this.orderers.add(new ThenByColumnOrderer<T, Object>(new GridCoreColumn<T, Object>(thenBy.getKey(), grid),
+                    thenBy.getValue()));
+
+        if (definition.getInitialDirection() != null)
+            sortInitialDirection(definition.getInitialDirection());
+    }
+
     /**
      * Sets the sortable property of the grid column.
      *
@@ -566,4 +632,18 @@ public class GridCoreColumn<T, TData> implements IGridColumn<T> {
         this.subgridKeys = subgridKeys;
         return this;
     }
+
+    /**
+     * Sets the expression of a companion attribute containing the text of the column without diacritics,
+     * as an entity field or a persisted computed column. When the diacritics are removed, the filters and search
+     * of the column compare this attribute with the values normalized in Java, instead of calling the function
+     * removing the diacritics in the database, so the comparisons can use the indexes of the attribute.
+     *
+     * @param normalizedExpression the expression of the attribute without diacritics
+     * @return the instance of the column for method chaining
+     */
+    public IGridColumn<T> normalized(String normalizedExpression) {
+        this.normalizedExpression = normalizedExpression;
+        return this;
+    }
 }
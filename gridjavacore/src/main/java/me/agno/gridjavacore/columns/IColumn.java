@@ -122,4 +122,20 @@ public interface IColumn<T> {
      * @return the instance of the column for method chaining
      */
     <S> IGridColumn<T> subgrid(Class<S> subgridTargetType, Pair<String, String>[] subgridKeys);
+
+    /**
+     * Returns the expression of the companion attribute containing the text of the column without diacritics.
+     *
+     * @return the expression of the attribute without diacritics, or null if the column doesn't have it
+     */
+    String getNormalizedExpression();
+
+    /**
+     * Sets the expression of a companion attribute containing the text of the column without diacritics,
+     * used to filter and search the column when the diacritics are removed.
+     *
+     * @param normalizedExpression the expression of the attribute without diacritics
+     * @return the instance of the column for method chaining
+     */
+    IGridColumn<T> normalized(String normalizedExpression);
 }
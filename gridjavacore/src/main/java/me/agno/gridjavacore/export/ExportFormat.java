@@ -0,0 +1,24 @@
+package me.agno.gridjavacore.export;
+
+/**
+ * ExportFormat is an enum class representing the formats of the grid export.
+ *
+ * - CSV: Comma-separated values with a header row containing the column names.
+ * - NDJSON: Newline-delimited JSON with an object for each row, keyed by the column names.
+ */
+public enum ExportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * Returns the media type of the export format.
+     *
+     * @return the media type of the export format
+     */
+    public String getMediaType() {
+        return switch (this) {
+            case CSV -> "text/csv";
+            case NDJSON -> "application/x-ndjson";
+        };
+    }
+}
@@ -0,0 +1,252 @@
+package me.agno.gridjavacore.export;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.Getter;
+import lombok.Setter;
+import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.utils.PathUtils;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The GridExporter class writes all the filtered, searched and sorted items of a grid to an output stream.
+ * Only the values of the visible columns are selected, and the rows are read from a stream of results
+ * fetched in batches, so the items are neither loaded as entities nor kept in the persistence context.
+ * The export only runs in constant memory if the JDBC driver honors the fetch size: the PostgreSQL driver
+ * reads all the rows at once unless the query runs in a transaction with autocommit disabled, and the MySQL
+ * driver unless the {@code useCursorFetch=true} connection property is set.
+ *
+ * @param <T> the type of the grid items
+ */
+public class GridExporter<T> {
+
+    /**
+     * The default number of rows fetched from the database in each round trip.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final IGrid<T> grid;
+
+    /**
+     * The number of rows fetched from the database in each round trip.
+     * The output is flushed after writing each batch of rows.
+     * The fetch size is only a hint for the JDBC driver, that can ignore it and read all the rows at once.
+     */
+    @Getter
+    @Setter
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+
+    /**
+     * Constructs a GridExporter object.
+     *
+     * @param grid the grid whose items are exported
+     */
+    public GridExporter(IGrid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Writes the items of a criteria query to an output stream, with the values of the visible grid columns.
+     * The output stream is flushed, but it is not closed.
+     *
+     * @param items the criteria query of the grid, with the grid predicate and order
+     * @param outputStream the output stream where the items are written with UTF-8 encoding
+     * @param format the format of the export
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    public long export(CriteriaQuery<T> items, OutputStream outputStream, ExportFormat format) throws IOException {
+
+        if (format == null)
+            throw new IllegalArgumentException("format");
+
+        List<GridCoreColumn<T, ?>> columns = getColumns();
+
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV)
+            writeCsvHeader(writer, columns);
+
+        long count = 0;
+        if (!columns.isEmpty()) {
+            var typedQuery = this.grid.createQuery(getExportQuery(items, columns));
+            // PostgreSQL only uses a cursor in a transaction with autocommit disabled, and MySQL with useCursorFetch
+            typedQuery.setHint(HibernateHints.HINT_FETCH_SIZE, this.fetchSize);
+
+            try (Stream<Tuple> rows = typedQuery.getResultStream()) {
+                var iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    var row = iterator.next();
+                    if (format == ExportFormat.CSV)
+                        writeCsvRow(writer, row, columns.size());
+                    else
+                        writeJsonRow(writer, row, columns);
+
+                    count++;
+                    if (this.fetchSize > 0 && count % this.fetchSize == 0)
+                        writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private List<GridCoreColumn<T, ?>> getColumns() {
+
+        List<GridCoreColumn<T, ?>> columns = new ArrayList<>();
+        for (var column : this.grid.getColumns().values()) {
+            if (!(column instanceof GridCoreColumn) || column.isHidden()
+                    || column.getTargetType() == Collection.class)
+                continue;
+
+            String expression = ((GridCoreColumn<T, ?>) column).getExpression();
+            if (expression == null || expression.trim().isEmpty())
+                continue;
+
+            columns.add((GridCoreColumn<T, ?>) column);
+        }
+        return columns;
+    }
+
+    private CriteriaQuery<Tuple> getExportQuery(CriteriaQuery<T> items, List<GridCoreColumn<T, ?>> columns) {
+
+        var gridQuery = (SqmSelectStatement) items;
+        var gridQuerySpec = gridQuery.getQuerySpec();
+
+        var exportBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var exportQuery = (SqmSelectStatement<Tuple>) exportBuilder.createTupleQuery();
+        exportQuery.setQueryPart(gridQuerySpec.copy(SqmCopyContext.simpleContext()));
+        Root<?> exportRoot = exportQuery.getRootList().get(0);
+
+        // associations are left joined, so the export returns the same rows as the entity query
+        List<Selection<?>> selections = new ArrayList<>();
+        for (var column : columns)
+            selections.add(PathUtils.getPath(exportRoot, column.getExpression(), JoinType.LEFT));
+        exportQuery.multiselect(selections);
+
+        return exportQuery;
+    }
+
+    private void writeCsvHeader(Writer writer, List<GridCoreColumn<T, ?>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                writer.write(',');
+            writeCsvValue(writer, columns.get(i).getName());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(Writer writer, Tuple row, int size) throws IOException {
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                writer.write(',');
+            writeCsvValue(writer, toText(row.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null)
+            return;
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJsonRow(Writer writer, Tuple row, List<GridCoreColumn<T, ?>> columns) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                writer.write(',');
+            writeJsonString(writer, columns.get(i).getName());
+            writer.write(':');
+            writeJsonValue(writer, row.get(i));
+        }
+        writer.write("}\n");
+    }
+
+    private void writeJsonValue(Writer writer, Object value) throws IOException {
+        if (value == null)
+            writer.write("null");
+        else if (value instanceof Boolean || isJsonNumber(value))
+            writer.write(value.toString());
+        else
+            writeJsonString(writer, toText(value));
+    }
+
+    private boolean isJsonNumber(Object value) {
+        if (value instanceof Double d)
+            return !d.isNaN() && !d.isInfinite();
+        else if (value instanceof Float f)
+            return !f.isNaN() && !f.isInfinite();
+        else
+            return value instanceof Number;
+    }
+
+    private void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                case '\b' -> writer.write("\\b");
+                case '\f' -> writer.write("\\f");
+                default -> {
+                    if (c < 0x20)
+                        writer.write(String.format("\\u%04x", (int) c));
+                    else
+                        writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private String toText(Object value) {
+        if (value == null)
+            return null;
+        else if (value instanceof java.sql.Date || value instanceof java.sql.Time)
+            return value.toString();
+        else if (value instanceof java.sql.Timestamp timestamp)
+            return timestamp.toLocalDateTime().toString();
+        else if (value instanceof Date date)
+            return date.toInstant().toString();
+        else if (value instanceof Calendar calendar)
+            return calendar.toInstant().toString();
+        else if (value instanceof Enum<?> enumValue)
+            return enumValue.name();
+        else
+            return value.toString();
+    }
+}
@@ -5,7 +5,6 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import me.agno.gridjavacore.columns.GridCoreColumn;
-import me.agno.gridjavacore.filtering.types.FilterTypeResolver;
 import me.agno.gridjavacore.filtering.types.IFilterType;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 
@@ -17,7 +16,6 @@ import java.util.List;
 public class DefaultColumnFilter<T, TData> implements IColumnFilter<T> {
 
     private final GridCoreColumn<T, TData> column;
-    private final FilterTypeResolver typeResolver = new FilterTypeResolver();
 
     /**
      * Creates a DefaultColumnFilter object with the given expression and targetType.
@@ -110,7 +108,7 @@ public class DefaultColumnFilter<T, TData> implements IColumnFilter<T> {
     private Predicate getExpression(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root,
                                     SqmQuerySpec source, ColumnFilterValue value, String removeDiacritics)
     {
-        IFilterType<T, TData> filterType = this.typeResolver.getFilterType(this.column.getTargetType());
+        IFilterType<T, TData> filterType = this.column.getFilterType();
         return filterType.getFilterExpression(cb, cq, root, source, this.column, value.getFilterValue(),
                 value.getFilterType(), removeDiacritics);
     }
@@ -0,0 +1,127 @@
+package me.agno.gridjavacore.filtering;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The DistinctValuesCache class caches the distinct values of the grid columns used by the list filters.
+ * The values are cached by the normalized filter, search and group state of the grid, so the grids created
+ * for different requests with the same state share the values. The least recently used entries are evicted when
+ * the maximum size is reached, and the entries expire after the time to live.
+ *
+ * The keys only contain the query string state, so a cache instance must only be used with one set of columns
+ * and one server-side predicate: the columns, the predicates set on the server side and the custom process
+ * functions of the grids using the same instance must be the same.
+ */
+public class DistinctValuesCache {
+
+    /**
+     * The default maximum number of cached entries.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * The default time to live of the cached entries.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    /**
+     * The maximum number of cached entries.
+     */
+    @Getter
+    private final int maxSize;
+
+    /**
+     * The time to live of the cached entries.
+     */
+    @Getter
+    private final Duration timeToLive;
+
+    private final LinkedHashMap<String, CacheEntry> entries;
+
+    private record CacheEntry(List<Object> values, long expiration) { }
+
+    /**
+     * Constructs a DistinctValuesCache object with the default maximum size and time to live.
+     */
+    public DistinctValuesCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructs a DistinctValuesCache object.
+     *
+     * @param maxSize the maximum number of cached entries
+     * @param timeToLive the time to live of the cached entries
+     * @throws IllegalArgumentException if the maximum size is not positive or the time to live is not positive
+     */
+    public DistinctValuesCache(int maxSize, Duration timeToLive) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("maxSize");
+        if (timeToLive == null || timeToLive.isZero() || timeToLive.isNegative())
+            throw new IllegalArgumentException("timeToLive");
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > DistinctValuesCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the cached values of a key, loading and caching them if they are not cached or they have expired.
+     * The values are loaded without locking the cache, so concurrent requests for the same key can load them
+     * more than once.
+     *
+     * @param key the cache key
+     * @param loader the function loading the values from the database
+     * @return the unmodifiable list of values
+     */
+    public List<Object> get(String key, Supplier<List<Object>> loader) {
+
+        long now = System.nanoTime();
+        synchronized (this.entries) {
+            var entry = this.entries.get(key);
+            if (entry != null) {
+                if (entry.expiration() - now > 0)
+                    return entry.values();
+                this.entries.remove(key);
+            }
+        }
+
+        List<Object> values = List.copyOf(loader.get());
+        var entry = new CacheEntry(values, System.nanoTime() + this.timeToLive.toNanos());
+        synchronized (this.entries) {
+            this.entries.put(key, entry);
+        }
+        return values;
+    }
+
+    /**
+     * Removes all the cached entries, so the values are loaded again after the data has changed.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Retrieves the number of cached entries, including the expired ones not removed yet.
+     *
+     * @return the number of cached entries
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+}
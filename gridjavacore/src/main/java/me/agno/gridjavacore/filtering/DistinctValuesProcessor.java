@@ -0,0 +1,178 @@
+package me.agno.gridjavacore.filtering;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.Getter;
+import lombok.Setter;
+import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.columns.IGridColumn;
+import me.agno.gridjavacore.utils.PathUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The DistinctValuesProcessor class retrieves the distinct values of a grid column for the items of the grid,
+ * to populate the list filters. The values are retrieved with a SELECT DISTINCT query on a copy of the grid query,
+ * so they are restricted by the current filters, search and group of the grid.
+ * If a cache is set, the values are cached by the normalized state of the grid.
+ *
+ * @param <T> the type of the grid items
+ */
+public class DistinctValuesProcessor<T> {
+
+    private static final String KEY_DELIMITER = "__";
+
+    private final IGrid<T> grid;
+
+    /**
+     * The cache of the distinct values, or null if the values are retrieved from the database for each request.
+     */
+    @Getter
+    @Setter
+    private DistinctValuesCache cache;
+
+    /**
+     * Constructs a DistinctValuesProcessor object.
+     *
+     * @param grid the grid whose column values are retrieved
+     */
+    public DistinctValuesProcessor(IGrid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Retrieves the distinct non-null values of a column for the items of the current grid query, sorted ascending.
+     * The prefix is only applied to string columns, and it is compared with the STARTS_WITH predicate of the text
+     * predicate strategy of the grid, so its pattern characters are compared literally.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values to retrieve, or null to retrieve all the values
+     * @param ownFilterExcluded true if the filter of the column is not applied to the grid query
+     * @return the unmodifiable list of distinct values, empty if the column doesn't exist or has no expression
+     */
+    public List<Object> process(String columnName, int limit, String prefix, boolean ownFilterExcluded) {
+
+        var column = getColumn(columnName);
+        if (column == null)
+            return List.of();
+
+        String normalizedPrefix = column.getTargetType() == String.class && prefix != null && !prefix.isBlank()
+                ? prefix.trim() : null;
+        int normalizedLimit = Math.max(limit, 0);
+
+        if (this.cache == null)
+            return List.copyOf(getValues(column, normalizedLimit, normalizedPrefix));
+
+        String key = getCacheKey(column, normalizedLimit, normalizedPrefix, ownFilterExcluded);
+        return this.cache.get(key, () -> getValues(column, normalizedLimit, normalizedPrefix));
+    }
+
+    private List<Object> getValues(GridCoreColumn<T, ?> column, int limit, String prefix) {
+
+        var gridQuery = (SqmSelectStatement) this.grid.getCriteriaQuery();
+        var valuesQuerySpec = gridQuery.getQuerySpec().copy(SqmCopyContext.simpleContext());
+        valuesQuerySpec.setOrderByClause(null);
+
+        var valuesBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var valuesQuery = (SqmSelectStatement<Tuple>) valuesBuilder.createTupleQuery();
+        valuesQuery.setQueryPart(valuesQuerySpec);
+        Root<?> valuesRoot = valuesQuery.getRootList().get(0);
+
+        // associations are left joined, so the values of the items without association are not lost
+        Path<Object> path = PathUtils.getPath(valuesRoot, column.getExpression(), JoinType.LEFT);
+
+        Predicate restriction = valuesQuery.getRestriction();
+        Predicate predicate = valuesBuilder.isNotNull(path);
+        // the prefix is compared as the starts-with filters, so its pattern characters are escaped
+        if (prefix != null)
+            predicate = valuesBuilder.and(predicate, this.grid.getTextPredicateStrategy().getPredicate(valuesBuilder,
+                    (Path<String>) (Path<?>) path, GridFilterType.STARTS_WITH, prefix,
+                    value -> this.grid.createParameter(String.class, value)));
+        valuesQuery.where(restriction == null ? predicate : valuesBuilder.and(restriction, predicate));
+
+        valuesQuery.multiselect(path).distinct(true);
+        valuesQuery.orderBy(valuesBuilder.asc(path));
+
+        var typedQuery = this.grid.createQuery(valuesQuery);
+        if (limit > 0)
+            typedQuery.setMaxResults(limit);
+
+        List<Object> values = new ArrayList<>();
+        for (var row : typedQuery.getResultList())
+            values.add(row.get(0));
+        return values;
+    }
+
+    // the key contains the values of the query string and the server settings that change the grid predicate
+    private String getCacheKey(GridCoreColumn<T, ?> column, int limit, String prefix, boolean ownFilterExcluded) {
+
+        var key = new StringBuilder()
+                .append(this.grid.getTargetType().getName()).append(KEY_DELIMITER)
+                .append(column.getName()).append(KEY_DELIMITER)
+                .append(limit).append(KEY_DELIMITER)
+                .append(prefix).append(KEY_DELIMITER)
+                .append(this.grid.getRemoveDiacritics()).append(KEY_DELIMITER)
+                .append(this.grid.getTextPredicateStrategy());
+
+        var filterSettings = this.grid.getSettings().getFilterSettings();
+        List<String> filters = new ArrayList<>();
+        for (IGridColumn<T> gridColumn : this.grid.getColumns().values()) {
+            if (gridColumn == null || gridColumn.getFilter() == null)
+                continue;
+            if (ownFilterExcluded && gridColumn == column)
+                continue;
+
+            List<ColumnFilterValue> options = filterSettings.isInitState(gridColumn)
+                    ? List.of(gridColumn.getInitialFilterSettings())
+                    : filterSettings.getFilteredColumns().getByColumn(gridColumn);
+            for (var option : options) {
+                if (option != null && option.isNotNull())
+                    filters.add(gridColumn.getName() + KEY_DELIMITER + option.getFilterType()
+                            + KEY_DELIMITER + option.getFilterValue());
+            }
+        }
+        // the order of the filters doesn't change the predicate
+        filters.sort(null);
+        key.append(KEY_DELIMITER).append(filters);
+
+        var searchOptions = this.grid.getSearchOptions();
+        if (searchOptions.isEnabled()) {
+            key.append(KEY_DELIMITER).append(this.grid.getSettings().getSearchSettings().getSearchValue())
+                    .append(KEY_DELIMITER).append(searchOptions.isOnlyTextColumns())
+                    .append(KEY_DELIMITER).append(searchOptions.isHiddenColumns())
+                    .append(KEY_DELIMITER).append(searchOptions.isSplittedWords())
+                    .append(KEY_DELIMITER).append(searchOptions.isTypedColumns());
+        }
+
+        Map<String, String> group = this.grid.getGroupProcessor().getGroup();
+        if (group != null && !group.isEmpty())
+            key.append(KEY_DELIMITER).append(new TreeMap<>(group));
+
+        return key.toString();
+    }
+
+    private GridCoreColumn<T, ?> getColumn(String columnName) {
+
+        if (columnName == null || columnName.trim().isEmpty())
+            return null;
+
+        var column = this.grid.getColumns().get(columnName);
+        if (!(column instanceof GridCoreColumn) || column.getTargetType() == Collection.class)
+            return null; //not a grid column or without distinct values
+
+        String expression = ((GridCoreColumn<T, ?>) column).getExpression();
+        if (expression == null || expression.trim().isEmpty())
+            return null;
+
+        return (GridCoreColumn<T, ?>) column;
+    }
+}
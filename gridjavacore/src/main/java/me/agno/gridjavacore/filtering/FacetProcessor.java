@@ -0,0 +1,189 @@
+package me.agno.gridjavacore.filtering;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.Getter;
+import lombok.Setter;
+import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.utils.PathUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The FacetProcessor class counts the items of the grid for each value of one or more columns, to show the counts
+ * next to the options of the list filters. Each column is counted with its own GROUP BY query, and the queries of
+ * all the columns are combined with UNION ALL, so the counts are calculated with a single statement that returns
+ * one row per value of each column, instead of one row per combination of the values of all the columns.
+ *
+ * @param <T> the type of the grid items
+ */
+public class FacetProcessor<T> {
+
+    private final IGrid<T> grid;
+
+    /**
+     * The names of the columns whose facets are returned with the items of the grid, or null if no facet is returned.
+     */
+    @Getter
+    @Setter
+    private List<String> columnNames;
+
+    /**
+     * Constructs a FacetProcessor object.
+     *
+     * @param grid the grid whose items are counted
+     */
+    public FacetProcessor(IGrid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Retrieves the facet columns of the grid with the given names. The names of the columns that don't exist,
+     * have no expression or are collections are ignored.
+     *
+     * @param columnNames the names of the facet columns
+     * @return the list of facet columns, without duplicates
+     */
+    public List<GridCoreColumn<T, ?>> getColumns(List<String> columnNames) {
+
+        List<GridCoreColumn<T, ?>> columns = new ArrayList<>();
+        if (columnNames == null)
+            return columns;
+
+        for (var columnName : columnNames) {
+            if (columnName == null || columnName.trim().isEmpty())
+                continue;
+
+            var column = this.grid.getColumns().get(columnName);
+            if (!(column instanceof GridCoreColumn) || column.getTargetType() == Collection.class)
+                continue; //not a grid column or without facet
+
+            String expression = ((GridCoreColumn<T, ?>) column).getExpression();
+            if (expression == null || expression.trim().isEmpty() || columns.contains(column))
+                continue;
+
+            columns.add((GridCoreColumn<T, ?>) column);
+        }
+        return columns;
+    }
+
+    /**
+     * Counts the items of the current grid query for each non-null value of the given columns,
+     * with a single statement.
+     *
+     * @param columns the facet columns
+     * @return the counts of the values of each column keyed by the column name, sorted by value
+     */
+    public Map<String, Map<Object, Long>> process(List<GridCoreColumn<T, ?>> columns) {
+
+        List<CriteriaQuery<Tuple>> queries = new ArrayList<>();
+        for (int i = 0; columns != null && i < columns.size(); i++)
+            queries.add(createQuery(columns, i));
+        return process(columns, queries);
+    }
+
+    /**
+     * Creates the query counting the items of the current grid query for each value of one of the facet columns,
+     * grouped by that column. The query selects the index of the column, a value for each facet column, that is
+     * null for all the columns but the counted one, and the count, so the queries of all the columns can be
+     * combined with UNION ALL. The grid query is copied when the query is created, so its restriction can be
+     * replaced to exclude the filter of the counted column.
+     *
+     * @param columns the facet columns
+     * @param index the index of the counted column
+     * @return the query of the counted column
+     */
+    public CriteriaQuery<Tuple> createQuery(List<GridCoreColumn<T, ?>> columns, int index) {
+
+        var gridQuery = (SqmSelectStatement) this.grid.getCriteriaQuery();
+        var facetQuerySpec = gridQuery.getQuerySpec().copy(SqmCopyContext.simpleContext());
+        facetQuerySpec.setOrderByClause(null);
+
+        var facetBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var facetQuery = (SqmSelectStatement<Tuple>) facetBuilder.createTupleQuery();
+        facetQuery.setQueryPart(facetQuerySpec);
+        Root<?> facetRoot = facetQuery.getRootList().get(0);
+
+        // associations are left joined, so the items without association are counted in the other facets
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(facetBuilder.literal(index));
+        Expression<?> key = null;
+        for (int i = 0; i < columns.size(); i++) {
+            var path = PathUtils.getPath(facetRoot, columns.get(i).getExpression(), JoinType.LEFT);
+            if (i == index) {
+                key = path;
+                selections.add(path);
+            }
+            else
+                selections.add(facetBuilder.nullLiteral(wrap(path.getJavaType())));
+        }
+        selections.add(facetBuilder.count(facetBuilder.literal(1)));
+        facetQuery.multiselect(selections);
+        facetQuery.groupBy(key);
+
+        return facetQuery;
+    }
+
+    /**
+     * Counts the items for each non-null value of the facet columns, executing the queries of all the columns
+     * combined with UNION ALL in a single statement.
+     *
+     * @param columns the facet columns
+     * @param queries the queries of the facet columns created by {@link #createQuery(List, int)}, in the same order
+     * @return the counts of the values of each column keyed by the column name, sorted by value
+     */
+    public Map<String, Map<Object, Long>> process(List<GridCoreColumn<T, ?>> columns,
+                                                  List<CriteriaQuery<Tuple>> queries) {
+
+        Map<String, Map<Object, Long>> facets = new LinkedHashMap<>();
+        if (columns == null || columns.isEmpty())
+            return facets;
+
+        for (var column : columns)
+            facets.put(column.getName(), new LinkedHashMap<>());
+
+        var facetBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        CriteriaQuery<Tuple> facetQuery = queries.size() == 1 ? queries.get(0)
+                : facetBuilder.unionAll(queries.get(0),
+                        queries.subList(1, queries.size()).toArray(new CriteriaQuery<?>[0]));
+
+        for (var row : this.grid.createQuery(facetQuery).getResultList()) {
+            int index = ((Number) row.get(0)).intValue();
+            var value = row.get(index + 1);
+            if (value != null)
+                facets.get(columns.get(index).getName()).put(value, ((Number) row.get(columns.size() + 1)).longValue());
+        }
+
+        for (var facet : facets.entrySet())
+            facet.setValue(sort(facet.getValue()));
+        return facets;
+    }
+
+    // the null literals of the other columns must have the types of their values
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private Map<Object, Long> sort(Map<Object, Long> facet) {
+
+        if (!facet.keySet().stream().allMatch(r -> r instanceof Comparable))
+            return facet;
+
+        List<Object> values = new ArrayList<>(facet.keySet());
+        values.sort((o1, o2) -> ((Comparable<Object>) o1).compareTo(o2));
+
+        Map<Object, Long> sortedFacet = new LinkedHashMap<>();
+        for (var value : values)
+            sortedFacet.put(value, facet.get(value));
+        return sortedFacet;
+    }
+}
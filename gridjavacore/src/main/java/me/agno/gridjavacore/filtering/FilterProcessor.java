@@ -47,6 +47,37 @@ public class FilterProcessor<T> {
 
 
     public Predicate process(Predicate predicate) {
+        return process(predicate, null);
+    }
+
+    /**
+     * Determines whether a filter is applied to a column, with the filter settings or the initial filter settings.
+     * If a custom process function is set, the filters are unknown and it returns false.
+     *
+     * @param column the column to check
+     * @return true if a filter is applied to the column, false otherwise
+     */
+    public boolean isFiltered(IGridColumn<T> column) {
+
+        if (this.process != null || column == null || column.getFilter() == null)
+            return false;
+
+        if (this.settings.isInitState(column))
+            return true;
+
+        var options = this.settings.getFilteredColumns().getByColumn(column);
+        return options != null && options.stream().anyMatch(r -> r != null && r.isNotNull());
+    }
+
+    /**
+     * Adds the predicates of the column filters, except the filter of the excluded column.
+     * If a custom process function is set, it is applied and no filter is excluded.
+     *
+     * @param predicate the predicate of the grid
+     * @param excludedColumn the column whose filter is not applied, or null to apply all the filters
+     * @return the predicate of the grid combined with the predicates of the column filters
+     */
+    public Predicate process(Predicate predicate, IGridColumn<T> excludedColumn) {
 
         if (this.process != null)
             return this.process.apply(predicate);
@@ -58,6 +89,7 @@ public class FilterProcessor<T> {
         for (IGridColumn<T> gridColumn : this.grid.getColumns().values()) {
             if (gridColumn == null) continue;
             if (gridColumn.getFilter() == null) continue;
+            if (gridColumn == excludedColumn) continue;
 
             List<ColumnFilterValue> options;
             if(this.settings.isInitState(gridColumn)) {
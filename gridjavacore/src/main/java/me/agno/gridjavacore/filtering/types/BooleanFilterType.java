@@ -63,11 +63,14 @@ public final class BooleanFilterType<T> extends FilterTypeBase<T, Boolean> {
         filterType = getValidType(filterType);
 
         Boolean typedValue = this.getTypedValue(value);
+        if (typedValue == null)
+            return null; //incorrent filter value;
 
         var path = getPath(root, column.getExpression());
+        var parameter = getParameter(column, Boolean.class, typedValue);
 
         if (Objects.requireNonNull(filterType) == GridFilterType.EQUALS) {
-            return cb.equal(path, typedValue);
+            return cb.equal(path, parameter);
         }
         throw new IllegalArgumentException();
     }
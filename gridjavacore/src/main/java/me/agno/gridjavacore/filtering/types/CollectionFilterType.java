@@ -82,36 +82,23 @@ public final class CollectionFilterType<T> extends FilterTypeBase<T, Collection>
                 filterType != GridFilterType.IS_DUPLICATED && filterType != GridFilterType.IS_NOT_DUPLICATED)
             return null; //incorrent filter value;
 
-        String[] names = column.getExpression().split("\\.");
-        if(names.length >= 2 && names[names.length -1].equalsIgnoreCase("count")) {
-
-            Subquery<Long> subquery = cq.subquery(Long.class);
-            Root<?> subRoot = subquery.from(column.getSubgridTargetType());
-
-            Predicate[] predicates = new Predicate[column.getSubgridKeys().length];
-            for (int i = 0; i < column.getSubgridKeys().length; i++) {
-                predicates[i] = cb.equal(root.get(column.getSubgridKeys()[i].getKey()),
-                        subRoot.get(column.getSubgridKeys()[i].getValue()));
-            }
+        // the count is calculated by the derived join of the column, shared with its sort order, search and totals
+        var count = column.getParentGrid().getCollectionCountProcessor().process(column);
+        if (count == null)
+            return null; //incorrent column name;
 
-            subquery.select(cb.count(cb.literal(1)))
-                    .where(predicates);
+        var parameter = getParameter(column, Long.class, typedValue == null ? null : typedValue.longValue());
 
-            return switch (filterType) {
-                case EQUALS -> cb.equal(subquery, typedValue);
-                case NOT_EQUALS -> cb.notEqual(subquery, typedValue);
-                case LESS_THAN -> cb.lt(subquery, typedValue);
-                case LESS_THAN_OR_EQUALS -> cb.le(subquery, typedValue);
-                case GREATER_THAN -> cb.gt(subquery, typedValue);
-                case GREATER_THAN_OR_EQUALS -> cb.ge(subquery, typedValue);
-                case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column.getExpression());
-                case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType,
-                        column.getExpression());
-                default -> throw new IllegalArgumentException();
-            };
-        }
-        else {
-            return null; //incorrent column name;
-        }
+        return switch (filterType) {
+            case EQUALS -> cb.equal(count, parameter);
+            case NOT_EQUALS -> cb.notEqual(count, parameter);
+            case LESS_THAN -> cb.lt(count, parameter);
+            case LESS_THAN_OR_EQUALS -> cb.le(count, parameter);
+            case GREATER_THAN -> cb.gt(count, parameter);
+            case GREATER_THAN_OR_EQUALS -> cb.ge(count, parameter);
+            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column);
+            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType, column);
+            default -> throw new IllegalArgumentException();
+        };
     }
 }
\ No newline at end of file
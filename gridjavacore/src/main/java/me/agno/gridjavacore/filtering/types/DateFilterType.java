@@ -71,17 +71,17 @@ public class DateFilterType<T> extends FilterTypeBase<T, Date> {
             return null; //incorrent filter value;
 
         var path = getPath(root, column.getExpression());
+        var parameter = getParameter(column, Date.class, typedValue);
 
         return switch (filterType) {
-            case EQUALS -> cb.equal(path, typedValue);
-            case NOT_EQUALS -> cb.notEqual(path, typedValue);
-            case LESS_THAN -> cb.lessThan(path, typedValue);
-            case LESS_THAN_OR_EQUALS -> cb.lessThanOrEqualTo(path, typedValue);
-            case GREATER_THAN -> cb.greaterThan(path, typedValue);
-            case GREATER_THAN_OR_EQUALS -> cb.greaterThanOrEqualTo(path, typedValue);
-            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column.getExpression());
-            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType,
-                    column.getExpression());
+            case EQUALS -> cb.equal(path, parameter);
+            case NOT_EQUALS -> cb.notEqual(path, parameter);
+            case LESS_THAN -> cb.lessThan(path, parameter);
+            case LESS_THAN_OR_EQUALS -> cb.lessThanOrEqualTo(path, parameter);
+            case GREATER_THAN -> cb.greaterThan(path, parameter);
+            case GREATER_THAN_OR_EQUALS -> cb.greaterThanOrEqualTo(path, parameter);
+            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column);
+            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType, column);
             default -> throw new IllegalArgumentException();
         };
     }
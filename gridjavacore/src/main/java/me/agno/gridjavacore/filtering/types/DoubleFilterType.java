@@ -72,17 +72,17 @@ public final class DoubleFilterType<T> extends FilterTypeBase<T, Double> {
             return null; //incorrent filter value;
 
         var path = getPath(root, column.getExpression());
+        var parameter = getParameter(column, Double.class, typedValue);
 
         return switch (filterType) {
-            case EQUALS -> cb.equal(path, typedValue);
-            case NOT_EQUALS -> cb.notEqual(path, typedValue);
-            case LESS_THAN -> cb.lt(path, typedValue);
-            case LESS_THAN_OR_EQUALS -> cb.le(path, typedValue);
-            case GREATER_THAN -> cb.gt(path, typedValue);
-            case GREATER_THAN_OR_EQUALS -> cb.ge(path, typedValue);
-            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column.getExpression());
-            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType,
-                    column.getExpression());
+            case EQUALS -> cb.equal(path, parameter);
+            case NOT_EQUALS -> cb.notEqual(path, parameter);
+            case LESS_THAN -> cb.lt(path, parameter);
+            case LESS_THAN_OR_EQUALS -> cb.le(path, parameter);
+            case GREATER_THAN -> cb.gt(path, parameter);
+            case GREATER_THAN_OR_EQUALS -> cb.ge(path, parameter);
+            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column);
+            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType, column);
             default -> throw new IllegalArgumentException();
         };
     }
@@ -73,7 +73,8 @@ public class EnumFilterType<T> extends FilterTypeBase<T, Enum> implements IFilte
             return null; //incorrent filter value;
 
         var path = getPath(root, column.getExpression());
+        var parameter = getParameter(column, (Class<Enum>) typedValue.getDeclaringClass(), typedValue);
 
-        return cb.equal(path, typedValue);
+        return cb.equal(path, parameter);
     }
 }
@@ -1,11 +1,17 @@
 package me.agno.gridjavacore.filtering.types;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
 import me.agno.gridjavacore.columns.GridCoreColumn;
 import me.agno.gridjavacore.filtering.GridFilterType;
+import me.agno.gridjavacore.utils.PathUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSubQuery;
 
+import java.util.Collection;
+
 /**
  * FilterTypeBase is an abstract class that serves as a base for implementing custom filter types.
  * It provides common functionality and methods for filter types.
@@ -57,20 +63,24 @@ public abstract class FilterTypeBase<T, TData> implements IFilterType<T, TData>
      * @return The path object corresponding to the expression.
      */
     public Path<TData> getPath(Root<?> root, String expression) {
+        return PathUtils.getPath(root, expression);
+    }
 
-        if(expression  == null || expression.trim().isEmpty())
+    /**
+     * Creates a parameter of the grid bound to a filter value.
+     * The value is sent to the database as a JDBC parameter instead of a literal, so the text of the SQL statement
+     * only depends on the filtered columns and operators, and it can be reused by the statement and plan caches.
+     *
+     * @param column The column.
+     * @param type   The type of the parameter.
+     * @param value  The filter value.
+     * @param <X>    The type of the parameter.
+     * @return The parameter expression, or null if the value is null.
+     */
+    public <X> Expression<X> getParameter(GridCoreColumn<T, ?> column, Class<X> type, X value) {
+        if (value == null)
             return null;
-
-        String[] names = expression .split("\\.");
-        var path = root.get(names[0]);
-
-        if(names.length > 1) {
-            for(int i = 1; i < names.length; i ++) {
-                path = path.get(names[i]);
-            }
-        }
-
-        return (Path<TData>) path;
+        return column.getParentGrid().createParameter(type, value);
     }
 
     /**
@@ -122,4 +132,92 @@ public abstract class FilterTypeBase<T, TData> implements IFilterType<T, TData>
 
         return cb.in(getPath(root, expression)).value(subQuery);
     }
-}
\ No newline at end of file
+
+    /**
+     * Determines if the specified column value is duplicated in the query result.
+     * If the window duplicates are enabled in the grid of the column, the duplicated items are selected with
+     * a count(*) over (partition by column) window function in a derived table, instead of a GROUP BY subquery.
+     *
+     * @param cb               The CriteriaBuilder object.
+     * @param cq               The CriteriaQuery object.
+     * @param root             The Root object.
+     * @param source           The SqmQuerySpec object.
+     * @param columnTargetType The target type of the column.
+     * @param column           The column.
+     * @return A Predicate representing the duplication condition.
+     */
+    public Predicate isDuplicated(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root, SqmQuerySpec source,
+                                  Class<TData> columnTargetType, GridCoreColumn<T, ?> column) {
+
+        Predicate predicate = null;
+        if (column.getParentGrid().isWindowDuplicates())
+            predicate = getWindowDuplicated(cb, cq, root, source, columnTargetType, column, true);
+
+        return predicate != null ? predicate
+                : isDuplicated(cb, cq, root, source, columnTargetType, column.getExpression());
+    }
+
+    /**
+     * Determines if the specified column value is not duplicated in the query result.
+     * If the window duplicates are enabled in the grid of the column, the not duplicated items are selected with
+     * a count(*) over (partition by column) window function in a derived table, instead of a GROUP BY subquery.
+     *
+     * @param cb               The CriteriaBuilder object.
+     * @param cq               The CriteriaQuery object.
+     * @param root             The Root object.
+     * @param source           The SqmQuerySpec object.
+     * @param columnTargetType The target type of the column.
+     * @param column           The column.
+     * @return A Predicate representing the condition for not having duplicated values in the specified column.
+     */
+    public Predicate isNotDuplicated(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root, SqmQuerySpec source,
+                                     Class<TData> columnTargetType, GridCoreColumn<T, ?> column) {
+
+        Predicate predicate = null;
+        if (column.getParentGrid().isWindowDuplicates())
+            predicate = getWindowDuplicated(cb, cq, root, source, columnTargetType, column, false);
+
+        return predicate != null ? predicate
+                : isNotDuplicated(cb, cq, root, source, columnTargetType, column.getExpression());
+    }
+
+    // the items are selected by identifier from a derived table counting the rows of each column value:
+    // root.id in (select d.id from (select e.id, e.column, count(*) over (partition by e.column) from source e) d
+    //             where d.column is not null and d.count > 1)
+    // it returns null if the entity has no single identifier or the column is a collection
+    private Predicate getWindowDuplicated(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root, SqmQuerySpec source,
+                                          Class<TData> columnTargetType, GridCoreColumn<T, ?> column,
+                                          boolean duplicated) {
+
+        if (columnTargetType == Collection.class)
+            return null;
+
+        var idAttribute = PathUtils.getIdAttribute(root);
+        if (idAttribute == null)
+            return null;
+
+        // the source is shared by the filters of the grid, so it is copied before changing its selection
+        var windowBuilder = (HibernateCriteriaBuilder) cb;
+        var windowQuery = (SqmSubQuery<Tuple>) cq.subquery(Tuple.class);
+        windowQuery.setQueryPart(source.copy(SqmCopyContext.simpleContext()));
+        Root<?> windowRoot = windowQuery.getRootList().get(0);
+
+        Path<TData> path = getPath(windowRoot, column.getExpression());
+        windowQuery.multiselect(windowRoot.get(idAttribute.getName()).alias("duplicatedId"),
+                path.alias("duplicatedValue"),
+                windowBuilder.count(windowBuilder.literal(1), windowBuilder.createWindow().partitionBy(path))
+                        .alias("duplicatedCount"));
+
+        // the subquery has the type of the identifier, so it can be compared with the identifier of the root
+        var idQuery = (SqmSubQuery<Object>) cq.subquery((Class<Object>) idAttribute.getJavaType());
+        idQuery.from(windowQuery).alias("duplicatedItem");
+        Root<?> idRoot = idQuery.getRootList().get(0);
+
+        Path<Long> count = idRoot.get("duplicatedCount");
+        idQuery.select(idRoot.get("duplicatedId"));
+        idQuery.where(cb.isNotNull(idRoot.get("duplicatedValue")),
+                duplicated ? cb.gt(count, 1L) : cb.equal(count, 1L));
+
+        return cb.in(root.get(idAttribute.getName())).value(idQuery);
+    }
+}
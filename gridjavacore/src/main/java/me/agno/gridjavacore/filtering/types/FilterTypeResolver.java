@@ -10,8 +10,20 @@ import java.util.List;
  */
 public class FilterTypeResolver {
 
+    private static final FilterTypeResolver DEFAULT_RESOLVER = new FilterTypeResolver();
+
     private final List<IFilterType> filterCollection = new ArrayList<>();
 
+    /**
+     * Retrieves a shared FilterTypeResolver with the default filter types.
+     * The filter types don't keep any state, so the same resolver can be used by all the columns of all the grids.
+     *
+     * @return the shared FilterTypeResolver
+     */
+    public static FilterTypeResolver getDefault() {
+        return DEFAULT_RESOLVER;
+    }
+
     /**
      * The FilterTypeResolver class is responsible for resolving the appropriate filter type
      * based on the provided class type. It contains a collection of filter types and provides
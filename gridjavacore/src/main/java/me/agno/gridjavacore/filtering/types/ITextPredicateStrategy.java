@@ -0,0 +1,32 @@
+package me.agno.gridjavacore.filtering.types;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import me.agno.gridjavacore.filtering.GridFilterType;
+
+import java.util.function.Function;
+
+/**
+ * The ITextPredicateStrategy interface represents the way the text columns are compared with the filter
+ * and search values. The strategies decide whether the comparisons are case-insensitive by wrapping the columns
+ * in functions or by relying on the database, so the predicates can use the indexes available on the columns.
+ */
+public interface ITextPredicateStrategy {
+
+    /**
+     * Returns the predicate comparing a text column with a value.
+     *
+     * @param cb the criteria builder
+     * @param path the path of the text column
+     * @param filterType the comparison, one of EQUALS, NOT_EQUALS, CONTAINS, STARTS_WITH, ENDS_WIDTH, IS_NULL
+     *                   or IS_NOT_NULL
+     * @param value the value compared with the column, not null
+     * @param parameter the function creating a query parameter bound to a value
+     * @return the predicate
+     * @throws IllegalArgumentException if the comparison is not supported
+     */
+    Predicate getPredicate(CriteriaBuilder cb, Path<String> path, GridFilterType filterType, String value,
+                           Function<String, Expression<String>> parameter);
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.criteria.Root;
 import lombok.Getter;
 import me.agno.gridjavacore.columns.GridCoreColumn;
 import me.agno.gridjavacore.filtering.GridFilterType;
+import me.agno.gridjavacore.utils.DiacriticsUtils;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 
 /**
@@ -68,43 +69,42 @@ public class TextFilterType<T> extends FilterTypeBase<T, String> {
         
         var path = getPath(root, column.getExpression());
 
-        if(removeDiacritics == null || removeDiacritics.isBlank()) {
+        boolean diacriticsRemoved = removeDiacritics != null && !removeDiacritics.isBlank();
+        if(!diacriticsRemoved || column.getNormalizedExpression() != null) {
+            // the companion attribute without diacritics is compared with the value normalized in Java,
+            // instead of calling the function of the database on every row
+            var comparedPath = diacriticsRemoved ? getPath(root, column.getNormalizedExpression()) : path;
+            String comparedValue = typedValue == null ? ""
+                    : diacriticsRemoved ? DiacriticsUtils.removeDiacritics(typedValue) : typedValue;
+
             return switch (filterType) {
-                case EQUALS -> cb.equal(cb.upper(path), typedValue.toUpperCase());
-                case IS_NULL -> cb.or(cb.isNull(path), cb.equal(cb.trim(path), ""));
-                case NOT_EQUALS -> cb.notEqual(cb.upper(path), typedValue.toUpperCase());
-                case IS_NOT_NULL -> cb.and(cb.isNotNull(path), cb.notEqual(cb.trim(path), ""));
-                case CONTAINS -> cb.like(cb.upper(path),
-                        '%' + typedValue.toUpperCase() + '%');
-                case STARTS_WITH -> cb.like(cb.upper(path),
-                        typedValue.toUpperCase() + '%');
-                case ENDS_WIDTH -> cb.like(cb.upper(path),
-                        '%' + typedValue.toUpperCase());
-                case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType,
-                        column.getExpression());
-                case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType,
-                        column.getExpression());
-                default -> throw new IllegalArgumentException();
+                case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column);
+                case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType, column);
+                default -> column.getParentGrid().getTextPredicateStrategy().getPredicate(cb, comparedPath, filterType,
+                        comparedValue, r -> getParameter(column, String.class, r));
             };
         }
         else {
             return switch (filterType) {
                 case EQUALS -> cb.equal(cb.function(removeDiacritics, String.class, cb.upper(path)),
-                        cb.function(removeDiacritics, String.class, cb.literal(typedValue.toUpperCase())));
+                        cb.function(removeDiacritics, String.class,
+                                getParameter(column, String.class, typedValue.toUpperCase())));
                 case IS_NULL -> cb.or(cb.isNull(path), cb.equal(cb.trim(path), ""));
                 case NOT_EQUALS -> cb.notEqual(cb.function(removeDiacritics, String.class, cb.upper(path)),
-                        cb.function(removeDiacritics, String.class, cb.literal(typedValue.toUpperCase())));
+                        cb.function(removeDiacritics, String.class,
+                                getParameter(column, String.class, typedValue.toUpperCase())));
                 case IS_NOT_NULL -> cb.and(cb.isNotNull(path), cb.notEqual(cb.trim(path), ""));
                 case CONTAINS -> cb.like(cb.function(removeDiacritics, String.class, cb.upper(path)),
-                        cb.function(removeDiacritics, String.class, cb.literal('%' + typedValue.toUpperCase() + '%')));
+                        cb.function(removeDiacritics, String.class,
+                                getParameter(column, String.class, '%' + typedValue.toUpperCase() + '%')));
                 case STARTS_WITH -> cb.like(cb.function(removeDiacritics, String.class, cb.upper(path)),
-                        cb.function(removeDiacritics, String.class, cb.literal(typedValue.toUpperCase() + '%')));
+                        cb.function(removeDiacritics, String.class,
+                                getParameter(column, String.class, typedValue.toUpperCase() + '%')));
                 case ENDS_WIDTH -> cb.like(cb.function(removeDiacritics, String.class, cb.upper(path)),
-                        cb.function(removeDiacritics, String.class, cb.literal('%' + typedValue.toUpperCase())));
-                case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType,
-                        column.getExpression());
-                case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType,
-                        column.getExpression());
+                        cb.function(removeDiacritics, String.class,
+                                getParameter(column, String.class, '%' + typedValue.toUpperCase())));
+                case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column);
+                case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType, column);
                 default -> throw new IllegalArgumentException();
             };
         }
@@ -0,0 +1,137 @@
+package me.agno.gridjavacore.filtering.types;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import me.agno.gridjavacore.filtering.GridFilterType;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.util.function.Function;
+
+/**
+ * TextPredicateStrategy is an enum class representing the built-in strategies to compare the text columns.
+ *
+ * - UPPER: The column and the value are converted to upper case, and empty or blank texts are considered null.
+ *   The comparisons can only use functional indexes on {@code upper(column)}. It is the default strategy.
+ * - COLLATION: The column is compared without functions, so the comparisons are case-insensitive if the collation
+ *   of the column is case-insensitive (the default in SQL Server and MySQL), and they can use ordinary indexes.
+ *   STARTS_WITH is compared with {@code like 'value%'}, so it follows the collation of the column and it can use
+ *   an index seek, and only empty texts are considered null.
+ * - ILIKE: The texts are compared with the case-insensitive {@code ilike} operator (PostgreSQL), that can use
+ *   trigram indexes, and only empty texts are considered null.
+ *
+ * The pattern characters of the values are escaped, so they are compared literally by all the strategies.
+ */
+public enum TextPredicateStrategy implements ITextPredicateStrategy {
+    UPPER,
+    COLLATION,
+    ILIKE;
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    /**
+     * Returns the strategy that can use the indexes of the text columns with the default settings of a database.
+     *
+     * @param dialect the Hibernate dialect of the database
+     * @return ILIKE for PostgreSQL, COLLATION for SQL Server, MySQL and MariaDB, and UPPER for the other databases
+     */
+    public static TextPredicateStrategy forDialect(Dialect dialect) {
+        if (dialect instanceof PostgreSQLDialect)
+            return ILIKE;
+        else if (dialect instanceof SQLServerDialect || dialect instanceof MySQLDialect)
+            return COLLATION;
+        else
+            return UPPER;
+    }
+
+    /**
+     * Returns the predicate comparing a text column with a value.
+     *
+     * @param cb the criteria builder
+     * @param path the path of the text column
+     * @param filterType the comparison
+     * @param value the value compared with the column, not null
+     * @param parameter the function creating a query parameter bound to a value
+     * @return the predicate
+     * @throws IllegalArgumentException if the comparison is not supported
+     */
+    public Predicate getPredicate(CriteriaBuilder cb, Path<String> path, GridFilterType filterType, String value,
+                                  Function<String, Expression<String>> parameter) {
+        return switch (this) {
+            case UPPER -> getUpperPredicate(cb, path, filterType, value, parameter);
+            case COLLATION -> getCollationPredicate(cb, path, filterType, value, parameter);
+            case ILIKE -> getIlikePredicate((HibernateCriteriaBuilder) cb, path, filterType, value, parameter);
+        };
+    }
+
+    private static Predicate getUpperPredicate(CriteriaBuilder cb, Path<String> path, GridFilterType filterType,
+                                               String value, Function<String, Expression<String>> parameter) {
+        String escapedValue = escape(value.toUpperCase());
+        return switch (filterType) {
+            case EQUALS -> cb.equal(cb.upper(path), parameter.apply(value.toUpperCase()));
+            case NOT_EQUALS -> cb.notEqual(cb.upper(path), parameter.apply(value.toUpperCase()));
+            case CONTAINS -> cb.like(cb.upper(path), parameter.apply('%' + escapedValue + '%'), escapeChar(cb));
+            case STARTS_WITH -> cb.like(cb.upper(path), parameter.apply(escapedValue + '%'), escapeChar(cb));
+            case ENDS_WIDTH -> cb.like(cb.upper(path), parameter.apply('%' + escapedValue), escapeChar(cb));
+            case IS_NULL -> cb.or(cb.isNull(path), cb.equal(cb.trim(path), ""));
+            case IS_NOT_NULL -> cb.and(cb.isNotNull(path), cb.notEqual(cb.trim(path), ""));
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
+    private static Predicate getCollationPredicate(CriteriaBuilder cb, Path<String> path, GridFilterType filterType,
+                                                   String value, Function<String, Expression<String>> parameter) {
+        String escapedValue = escape(value);
+        return switch (filterType) {
+            case EQUALS -> cb.equal(path, parameter.apply(value));
+            case NOT_EQUALS -> cb.notEqual(path, parameter.apply(value));
+            case CONTAINS -> cb.like(path, parameter.apply('%' + escapedValue + '%'), escapeChar(cb));
+            // a range on the next code point doesn't follow the collation order of the database
+            case STARTS_WITH -> cb.like(path, parameter.apply(escapedValue + '%'), escapeChar(cb));
+            case ENDS_WIDTH -> cb.like(path, parameter.apply('%' + escapedValue), escapeChar(cb));
+            case IS_NULL -> cb.or(cb.isNull(path), cb.equal(path, ""));
+            case IS_NOT_NULL -> cb.and(cb.isNotNull(path), cb.notEqual(path, ""));
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
+    private static Predicate getIlikePredicate(HibernateCriteriaBuilder cb, Path<String> path,
+                                               GridFilterType filterType, String value,
+                                               Function<String, Expression<String>> parameter) {
+        String escapedValue = escape(value);
+        return switch (filterType) {
+            case EQUALS -> cb.ilike(path, parameter.apply(escapedValue), escapeChar(cb));
+            case NOT_EQUALS -> cb.notIlike(path, parameter.apply(escapedValue), escapeChar(cb));
+            case CONTAINS -> cb.ilike(path, parameter.apply('%' + escapedValue + '%'), escapeChar(cb));
+            case STARTS_WITH -> cb.ilike(path, parameter.apply(escapedValue + '%'), escapeChar(cb));
+            case ENDS_WIDTH -> cb.ilike(path, parameter.apply('%' + escapedValue), escapeChar(cb));
+            case IS_NULL -> cb.or(cb.isNull(path), cb.equal(path, ""));
+            case IS_NOT_NULL -> cb.and(cb.isNotNull(path), cb.notEqual(path, ""));
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
+    // the escape character is a text literal, because a character literal is rendered without quotes
+    // in the HQL string of the query, that can't be parsed again by the HQL queries of the grid
+    @SuppressWarnings("unchecked")
+    private static Expression<Character> escapeChar(CriteriaBuilder cb) {
+        return (Expression<Character>) (Expression<?>) cb.literal(String.valueOf(ESCAPE_CHAR));
+    }
+
+    // the pattern characters of the value are compared literally
+    private static String escape(String value) {
+        var escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR)
+                escaped.append(ESCAPE_CHAR);
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -75,17 +75,16 @@ public class UuidFilterType<T> extends FilterTypeBase<T, UUID>{
         var path = getPath(root, column.getExpression());
 
         return switch (filterType) {
-            case EQUALS -> cb.equal(path, typedValue);
-            case NOT_EQUALS -> cb.notEqual(path, typedValue);
+            case EQUALS -> cb.equal(path, getParameter(column, UUID.class, typedValue));
+            case NOT_EQUALS -> cb.notEqual(path, getParameter(column, UUID.class, typedValue));
             case CONTAINS -> cb.like(cb.upper(path.as(String.class)),
-                    '%' + typedValue.toString().toUpperCase() + '%');
+                    getParameter(column, String.class, '%' + typedValue.toString().toUpperCase() + '%'));
             case STARTS_WITH -> cb.like(cb.upper(path.as(String.class)),
-                    typedValue.toString().toUpperCase() + '%');
+                    getParameter(column, String.class, typedValue.toString().toUpperCase() + '%'));
             case ENDS_WIDTH -> cb.like(cb.upper(path.as(String.class)),
-                    '%' + typedValue.toString().toUpperCase());
-            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column.getExpression());
-            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType,
-                    column.getExpression());
+                    getParameter(column, String.class, '%' + typedValue.toString().toUpperCase()));
+            case IS_DUPLICATED -> isDuplicated(cb, cq, root, source, this.targetType, column);
+            case IS_NOT_DUPLICATED -> isNotDuplicated(cb, cq, root, source, this.targetType, column);
             default -> throw new IllegalArgumentException();
         };
     }
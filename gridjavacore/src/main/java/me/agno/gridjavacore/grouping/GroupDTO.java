@@ -0,0 +1,36 @@
+package me.agno.gridjavacore.grouping;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.agno.gridjavacore.totals.TotalsDTO;
+
+import java.util.Map;
+
+/**
+ * Represents a data transfer object (DTO) that holds the key values, the number of items and the totals of a group
+ * of grid items.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupDTO {
+
+    /**
+     * The values of the group columns for the items of the group, keyed by the column names
+     * in the order of the group columns.
+     */
+    private Map<String, Object> keys;
+
+    /**
+     * The number of items of the group.
+     */
+    private long count;
+
+    /**
+     * The sum, average, max and min totals of the columns of the grid calculated for the items of the group.
+     */
+    private TotalsDTO totals;
+}
@@ -0,0 +1,244 @@
+package me.agno.gridjavacore.grouping;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.Getter;
+import lombok.Setter;
+import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.columns.IGridColumn;
+import me.agno.gridjavacore.filtering.types.FilterTypeResolver;
+import me.agno.gridjavacore.totals.Total;
+import me.agno.gridjavacore.totals.TotalsDTO;
+import me.agno.gridjavacore.totals.TotalsProcessor;
+import me.agno.gridjavacore.utils.PathUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The GroupProcessor class groups the grid items by one or more columns in the database.
+ * It calculates the key values, the number of items and the column totals of each group with a GROUP BY query,
+ * and it restricts the grid items to the items of an expanded group, so the items of a group are paged
+ * like the items of the grid.
+ *
+ * @param <T> the type of the grid items
+ */
+public class GroupProcessor<T> {
+
+    private final IGrid<T> grid;
+
+    /**
+     * The values of the group columns of the expanded group, keyed by the column names.
+     * The values are parsed with the filter type of each column, and a null value selects the items without value.
+     * If it is set, the grid items are restricted to the items of the group.
+     */
+    @Getter
+    @Setter
+    private Map<String, String> group;
+
+    /**
+     * Constructs a GroupProcessor object.
+     *
+     * @param grid the grid whose items are grouped
+     */
+    public GroupProcessor(IGrid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Adds the predicate restricting the grid items to the expanded group.
+     *
+     * @param predicate the predicate of the grid
+     * @return the predicate of the grid combined with the predicate of the expanded group
+     */
+    public Predicate process(Predicate predicate) {
+
+        if (this.group == null || this.group.isEmpty())
+            return predicate;
+
+        var cb = this.grid.getCriteriaBuilder();
+        var typeResolver = FilterTypeResolver.getDefault();
+
+        for (var entry : this.group.entrySet()) {
+            var column = getColumn(entry.getKey());
+            if (column == null)
+                continue;
+
+            Path<Object> path = PathUtils.getPath(this.grid.getRoot(), column.getExpression(), JoinType.LEFT);
+            Predicate newPredicate;
+            if (entry.getValue() == null)
+                newPredicate = cb.isNull(path);
+            else {
+                Object value = typeResolver.getFilterType(column.getTargetType()).getTypedValue(entry.getValue());
+                newPredicate = value == null ? cb.disjunction() : cb.equal(path, getParameter(value));
+            }
+
+            predicate = predicate == null ? newPredicate : cb.and(predicate, newPredicate);
+        }
+
+        return predicate;
+    }
+
+    /**
+     * Retrieves the groups of the grid items for the given group columns, sorted by the group key values.
+     * The groups are calculated for the filtered and searched items with a GROUP BY query,
+     * including the number of items and the sum, average, max and min totals enabled on the grid columns.
+     * Associations are left joined, so the items without value in a group column are grouped in a null key.
+     *
+     * @param columnNames the names of the group columns
+     * @param maxGroups the maximum number of groups to retrieve, or 0 to retrieve all the groups
+     * @return the list of groups
+     */
+    public List<GroupDTO> getGroups(List<String> columnNames, int maxGroups) {
+
+        List<GroupDTO> groups = new ArrayList<>();
+
+        List<GridCoreColumn<T, ?>> groupColumns = new ArrayList<>();
+        if (columnNames != null) {
+            for (var columnName : columnNames) {
+                var column = getColumn(columnName);
+                if (column != null && !groupColumns.contains(column))
+                    groupColumns.add(column);
+            }
+        }
+        if (groupColumns.isEmpty())
+            return groups;
+
+        var gridQuery = (SqmSelectStatement) this.grid.getCriteriaQuery();
+        var groupQuerySpec = gridQuery.getQuerySpec().copy(SqmCopyContext.simpleContext());
+        groupQuerySpec.setOrderByClause(null);
+
+        var groupBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var groupQuery = (SqmSelectStatement<Tuple>) groupBuilder.createTupleQuery();
+        groupQuery.setQueryPart(groupQuerySpec);
+        Root<?> groupRoot = groupQuery.getRootList().get(0);
+
+        List<Expression<?>> keys = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (var column : groupColumns) {
+            Path<?> path = PathUtils.getPath(groupRoot, column.getExpression(), JoinType.LEFT);
+            keys.add(path);
+            orders.add(groupBuilder.asc(path));
+        }
+
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        selections.add(groupBuilder.count(groupBuilder.literal(1)));
+
+        // associations are left joined, so the totals don't remove items from the groups
+        List<IGridColumn<T>> totalColumns = new ArrayList<>();
+        for (IGridColumn<T> gridColumn : this.grid.getColumns().values()) {
+            if (!hasTotals(gridColumn))
+                continue;
+
+            String expression = gridColumn.getTotals().getExpression();
+            if (TotalsProcessor.isComparableType(gridColumn.getTargetType())) {
+                Path<Comparable> path = PathUtils.getPath(groupRoot, expression, JoinType.LEFT);
+                if (gridColumn.isMaxEnabled())
+                    selections.add(groupBuilder.greatest(path));
+                if (gridColumn.isMinEnabled())
+                    selections.add(groupBuilder.least(path));
+            }
+            else {
+                Path<Number> path = PathUtils.getPath(groupRoot, expression, JoinType.LEFT);
+                if (gridColumn.isSumEnabled())
+                    selections.add(groupBuilder.sum(path));
+                if (gridColumn.isAverageEnabled())
+                    selections.add(groupBuilder.avg(path));
+                if (gridColumn.isMaxEnabled())
+                    selections.add(groupBuilder.max(path));
+                if (gridColumn.isMinEnabled())
+                    selections.add(groupBuilder.min(path));
+            }
+            totalColumns.add(gridColumn);
+        }
+
+        groupQuery.multiselect(selections);
+        groupQuery.groupBy(keys);
+        groupQuery.orderBy(orders);
+
+        var typedQuery = this.grid.createQuery(groupQuery);
+        if (maxGroups > 0)
+            typedQuery.setMaxResults(maxGroups);
+
+        for (var row : typedQuery.getResultList()) {
+            Map<String, Object> groupKeys = new LinkedHashMap<>();
+            for (int i = 0; i < groupColumns.size(); i++)
+                groupKeys.put(groupColumns.get(i).getName(), row.get(i));
+
+            long count = ((Number) row.get(groupColumns.size())).longValue();
+            groups.add(new GroupDTO(groupKeys, count, getTotals(row, groupColumns.size() + 1, totalColumns)));
+        }
+
+        return groups;
+    }
+
+    private TotalsDTO getTotals(Tuple row, int index, List<IGridColumn<T>> totalColumns) {
+
+        var totals = new TotalsDTO();
+        for (IGridColumn<T> gridColumn : totalColumns) {
+            var type = gridColumn.getTargetType();
+            var name = gridColumn.getName();
+
+            if (TotalsProcessor.isComparableType(type)) {
+                if (gridColumn.isMaxEnabled())
+                    totals.getMax().put(name, TotalsProcessor.getTotal(type, row.get(index++)));
+                if (gridColumn.isMinEnabled())
+                    totals.getMin().put(name, TotalsProcessor.getTotal(type, row.get(index++)));
+            }
+            else {
+                if (gridColumn.isSumEnabled())
+                    totals.getSum().put(name, new Total((Number) row.get(index++)));
+                if (gridColumn.isAverageEnabled())
+                    totals.getAverage().put(name, new Total((Number) row.get(index++)));
+                if (gridColumn.isMaxEnabled())
+                    totals.getMax().put(name, new Total((Number) row.get(index++)));
+                if (gridColumn.isMinEnabled())
+                    totals.getMin().put(name, new Total((Number) row.get(index++)));
+            }
+        }
+        return totals;
+    }
+
+    private boolean hasTotals(IGridColumn<T> gridColumn) {
+
+        if (gridColumn == null || gridColumn.getTotals() == null || gridColumn.getTotals().getExpression() == null)
+            return false;
+
+        var type = gridColumn.getTargetType();
+        if (TotalsProcessor.isComparableType(type))
+            return gridColumn.isMaxEnabled() || gridColumn.isMinEnabled();
+        else if (TotalsProcessor.isNumberType(type))
+            return gridColumn.isSumEnabled() || gridColumn.isAverageEnabled()
+                    || gridColumn.isMaxEnabled() || gridColumn.isMinEnabled();
+        else
+            return false;
+    }
+
+    private GridCoreColumn<T, ?> getColumn(String columnName) {
+
+        if (columnName == null || columnName.trim().isEmpty())
+            return null;
+
+        var column = this.grid.getColumns().get(columnName);
+        if (!(column instanceof GridCoreColumn) || column.getTargetType() == Collection.class)
+            return null; //not a grid column or not groupable
+
+        String expression = ((GridCoreColumn<T, ?>) column).getExpression();
+        if (expression == null || expression.trim().isEmpty())
+            return null;
+
+        return (GridCoreColumn<T, ?>) column;
+    }
+
+    private Expression<?> getParameter(Object value) {
+        Class type = value instanceof Enum<?> enumValue ? enumValue.getDeclaringClass() : value.getClass();
+        return this.grid.createParameter(type, value);
+    }
+}
@@ -0,0 +1,96 @@
+package me.agno.gridjavacore.pagination;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The FetchPlanner class builds the entity graph used to load the to-one associations of the grid columns
+ * in the same query as the page items, so they are not loaded with a separate query for each item.
+ *
+ * @param <T> the type of the grid items
+ */
+public class FetchPlanner<T> {
+
+    private final IGrid<T> grid;
+
+    /**
+     * Constructs a FetchPlanner object.
+     *
+     * @param grid the grid whose column expressions are inspected
+     */
+    public FetchPlanner(IGrid<T> grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Builds an entity graph with the to-one associations navigated by the dotted column expressions.
+     * Collection associations are not included, because fetching them would break the pagination of the query.
+     *
+     * @return the entity graph, or null if the columns don't navigate any to-one association
+     */
+    public EntityGraph<T> getEntityGraph() {
+
+        var entityManager = this.grid.getEntityManager();
+        var metamodel = entityManager.getMetamodel();
+
+        EntityGraph<T> graph = null;
+        Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+
+        for (var column : this.grid.getColumns().values()) {
+            if (!(column instanceof GridCoreColumn) || column.getTargetType() == Collection.class)
+                continue;
+
+            String expression = ((GridCoreColumn<T, ?>) column).getExpression();
+            if (expression == null || !expression.contains("."))
+                continue;
+
+            String[] names = expression.split("\\.");
+            ManagedType<?> type = metamodel.managedType(this.grid.getTargetType());
+            Subgraph<?> subgraph = null;
+            String path = null;
+
+            for (int i = 0; i < names.length - 1; i++) {
+                var attribute = getAttribute(type, names[i]);
+                if (attribute == null || !attribute.isAssociation() || attribute.isCollection())
+                    break;
+
+                var associationType = ((SingularAttribute<?, ?>) attribute).getType();
+                if (!(associationType instanceof ManagedType))
+                    break;
+
+                if (graph == null)
+                    graph = entityManager.createEntityGraph(this.grid.getTargetType());
+
+                path = path == null ? names[i] : path + "." + names[i];
+                var pathSubgraph = subgraphs.get(path);
+                if (pathSubgraph == null) {
+                    pathSubgraph = subgraph == null ? graph.addSubgraph(names[i]) : subgraph.addSubgraph(names[i]);
+                    subgraphs.put(path, pathSubgraph);
+                }
+
+                subgraph = pathSubgraph;
+                type = (ManagedType<?>) associationType;
+            }
+        }
+
+        return graph;
+    }
+
+    private Attribute<?, ?> getAttribute(ManagedType<?> type, String name) {
+        try {
+            return type.getAttribute(name);
+        }
+        catch (IllegalArgumentException e) {
+            return null; //not an attribute of the type
+        }
+    }
+}
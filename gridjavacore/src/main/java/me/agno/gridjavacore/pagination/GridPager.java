@@ -66,6 +66,12 @@ public class GridPager<T> implements IGridPager<T> {
      */
     public final static String DEFAULT_NO_TOTALS_PARAMETER = "grid-no-totals";
 
+    /**
+     * The default query parameter used for specifying the cursor of the requested page when using keyset pagination.
+     * The value of this parameter is an opaque token returned in the next or previous cursor of a page.
+     */
+    public final static String DEFAULT_CURSOR_QUERY_PARAMETER = "grid-cursor";
+
     private final CustomQueryStringBuilder queryBuilder;
 
     /**
@@ -95,7 +101,7 @@ public class GridPager<T> implements IGridPager<T> {
         else
             this.currentPage = 1;
 
-        if (this.currentPage > this.pageCount)
+        if (this.exactCount && this.currentPage > this.pageCount)
             this.currentPage = this.pageCount;
         return this.currentPage;
     }
@@ -126,6 +132,13 @@ public class GridPager<T> implements IGridPager<T> {
         RecalculatePages();
     }
 
+    /**
+     * Indicates whether the items count used to calculate the pages is exact. If it is capped or estimated,
+     * the current page is not limited by the page count, so the pages after the count can be requested.
+     */
+    @Getter
+    private boolean exactCount = true;
+
     /**
      * Specifies the maximum number of displayed pages in a grid pager.
      */
@@ -203,6 +216,39 @@ public class GridPager<T> implements IGridPager<T> {
     @Setter
     private boolean noTotals = false;
 
+    /**
+     * Indicates whether there is a page after the current one when the items are not counted.
+     */
+    @Getter
+    @Setter
+    private boolean hasNextPage = false;
+
+    /**
+     * Represents the cursor of the next page when using keyset pagination.
+     */
+    @Getter
+    @Setter
+    private String nextCursor;
+
+    /**
+     * Represents the cursor of the previous page when using keyset pagination.
+     */
+    @Getter
+    @Setter
+    private String previousCursor;
+
+    /**
+     * Retrieves the cursor of the requested page when using keyset pagination.
+     *
+     * @return the cursor token, or null if the first page is requested
+     */
+    public String getCursor() {
+        var cursorParameter = this.grid.getQuery().get(DEFAULT_CURSOR_QUERY_PARAMETER);
+        if (cursorParameter != null && cursorParameter.size() == 1)
+            return cursorParameter.get(0);
+        return null;
+    }
+
     /**
      * Represents a parameter name used in the grid pager.
      *
@@ -287,7 +333,8 @@ public class GridPager<T> implements IGridPager<T> {
                 pageSize = Integer.parseInt(pageSizeParameter.get(0));
             this.queryPageSize = pageSize;
 
-            this.pageSize = DEFAULT_PAGE_SIZE;
+            // the page size requested by the client is used before the items are counted
+            this.pageSize = pageSize != 0 ? pageSize : DEFAULT_PAGE_SIZE;
         }
     }
 
@@ -297,6 +344,18 @@ public class GridPager<T> implements IGridPager<T> {
      * @param count the number of items to initialize the GridPager with
      */
     public void initialize(long count) {
+        initialize(count, true);
+    }
+
+    /**
+     * Initializes the GridPager with the specified count of items, that can be capped or estimated.
+     * If the count is not exact, the current page is not limited by the page count.
+     *
+     * @param count the number of items to initialize the GridPager with
+     * @param exact true if the count is exact, false if it is capped or estimated
+     */
+    public void initialize(long count, boolean exact) {
+        this.exactCount = exact;
         setItemsCount(count);
     }
 
@@ -304,17 +363,23 @@ public class GridPager<T> implements IGridPager<T> {
         if (this.grid.getPagingType() == PagingType.VIRTUALIZATION)
             return;
 
+        // the page can be fetched before the items are counted, so the page size is set first
+        if (this.queryPageSize != 0)
+            this.pageSize = this.queryPageSize;
+
         if (this.itemsCount == 0) {
             this.pageCount = 0;
             return;
         }
 
-        if (this.queryPageSize != 0)
-            this.pageSize = this.queryPageSize;
         this.pageCount = (int) Math.ceil(this.itemsCount / (double) this.pageSize);
 
-        if (getCurrentPage() > this.pageCount)
-            setCurrentPage(this.pageCount);
+        if (getCurrentPage() > this.pageCount) {
+            if (this.exactCount)
+                setCurrentPage(this.pageCount);
+            else
+                this.pageCount = getCurrentPage(); //the requested page can exist after an approximate count
+        }
 
         this.startDisplayedPage = (getCurrentPage() - this.maxDisplayedPages/2) < 1 ? 1 : getCurrentPage() - this.maxDisplayedPages/2;
         this.endDisplayedPage = (getCurrentPage() + this.maxDisplayedPages/2) > this.pageCount
@@ -21,6 +21,15 @@ public interface IGridPager<T> {
      */
     void initialize(long count);
 
+    /**
+     * Initializes the pager with the specified count, that can be capped or estimated.
+     * If the count is not exact, the current page is not limited by the page count.
+     *
+     * @param count the total number of items in the grid
+     * @param exact true if the count is exact, false if it is capped or estimated
+     */
+    void initialize(long count, boolean exact);
+
     /**
      * Retrieves the page size used for pagination in the grid pager.
      *
@@ -90,4 +99,53 @@ public interface IGridPager<T> {
      * @return true if the grid pager has no totals, false otherwise
      */
     boolean isNoTotals();
+
+    /**
+     * Checks if there is a page after the current one when the items are not counted.
+     *
+     * @return true if there is a next page, false otherwise
+     */
+    boolean isHasNextPage();
+
+    /**
+     * Sets whether there is a page after the current one when the items are not counted.
+     *
+     * @param hasNextPage true if there is a next page, false otherwise
+     */
+    void setHasNextPage(boolean hasNextPage);
+
+    /**
+     * Retrieves the cursor of the requested page when using keyset pagination.
+     *
+     * @return the cursor token, or null if the first page is requested
+     */
+    String getCursor();
+
+    /**
+     * Retrieves the cursor of the next page when using keyset pagination.
+     *
+     * @return the cursor token of the next page, or null if there is no next page
+     */
+    String getNextCursor();
+
+    /**
+     * Sets the cursor of the next page when using keyset pagination.
+     *
+     * @param nextCursor the cursor token of the next page
+     */
+    void setNextCursor(String nextCursor);
+
+    /**
+     * Retrieves the cursor of the previous page when using keyset pagination.
+     *
+     * @return the cursor token of the previous page, or null if there is no previous page
+     */
+    String getPreviousCursor();
+
+    /**
+     * Sets the cursor of the previous page when using keyset pagination.
+     *
+     * @param previousCursor the cursor token of the previous page
+     */
+    void setPreviousCursor(String previousCursor);
 }
@@ -22,6 +22,8 @@ public interface IPagerProcessor<T> {
 
     /**
      * Sets the processing function for the pager processor.
+     * The named parameters of the grid contained in the returned TypedQuery are bound to their values
+     * after the function is applied.
      *
      * @param process the function that processes a CriteriaQuery and returns a TypedQuery
      *                representing the processed CriteriaQuery
@@ -0,0 +1,174 @@
+package me.agno.gridjavacore.pagination;
+
+import lombok.Getter;
+import me.agno.gridjavacore.filtering.types.FilterTypeResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The KeysetCursor class represents the opaque token used by keyset pagination to identify the boundary row of a page.
+ * It contains the values of the sort keys of the boundary row and the direction of the requested page.
+ */
+@Getter
+public class KeysetCursor {
+
+    private static final String NEXT = "n";
+
+    private static final String PREVIOUS = "p";
+
+    private static final String NULL_VALUE = "~";
+
+    /**
+     * Indicates whether the cursor points to the page before the boundary row.
+     */
+    private final boolean previous;
+
+    /**
+     * The string representation of the sort key values of the boundary row.
+     */
+    private final List<String> values;
+
+    /**
+     * Constructs a KeysetCursor object.
+     *
+     * @param previous true if the cursor points to the page before the boundary row, false if it points to the page after it
+     * @param values the string representation of the sort key values of the boundary row
+     */
+    public KeysetCursor(boolean previous, List<String> values) {
+        this.previous = previous;
+        this.values = values;
+    }
+
+    /**
+     * Encodes the cursor as an opaque token.
+     *
+     * @return the token representing the cursor
+     */
+    public String encode() {
+        var builder = new StringBuilder(this.previous ? PREVIOUS : NEXT);
+        for (var value : this.values) {
+            builder.append('.');
+            if (value == null)
+                builder.append(NULL_VALUE);
+            else
+                builder.append(Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Decodes an opaque token into a KeysetCursor object.
+     *
+     * @param token the token to decode
+     * @return the decoded cursor, or null if the token is empty or incorrect
+     */
+    public static KeysetCursor decode(String token) {
+
+        if (token == null || token.trim().isEmpty())
+            return null;
+
+        String[] parts = token.trim().split("\\.");
+        if (! parts[0].equals(NEXT) && ! parts[0].equals(PREVIOUS))
+            return null;
+
+        try {
+            List<String> values = new ArrayList<>();
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].equals(NULL_VALUE))
+                    values.add(null);
+                else
+                    values.add(new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8));
+            }
+            return new KeysetCursor(parts[0].equals(PREVIOUS), values);
+        }
+        catch (IllegalArgumentException e) {
+            return null; //incorrect token
+        }
+    }
+
+    /**
+     * Converts a sort key value to a string that can be restored exactly by {@link #fromCursorValue}.
+     * Date and time values are converted with their full precision: the values of an instant in time are
+     * converted to ISO instants in UTC, and the local values to ISO local dates and times.
+     *
+     * @param value the sort key value
+     * @return the string representation of the value, or null if the value is null
+     */
+    public static String toCursorValue(Object value) {
+
+        if (value == null)
+            return null;
+        else if (value instanceof java.sql.Date date)
+            return date.toLocalDate().toString();
+        else if (value instanceof java.sql.Time time)
+            return Instant.ofEpochMilli(time.getTime()).toString();
+        else if (value instanceof java.sql.Timestamp timestamp)
+            return timestamp.toInstant().toString();
+        else if (value instanceof Date date)
+            return date.toInstant().toString();
+        else if (value instanceof Calendar calendar)
+            return calendar.toInstant().toString();
+        else if (value instanceof Enum<?> enumValue)
+            return enumValue.name();
+        else
+            return value.toString(); //ISO representation of the java.time values
+    }
+
+    /**
+     * Restores a sort key value converted by {@link #toCursorValue}. The date and time values are restored
+     * exactly, and the values of other types are parsed by the filter types of the grid.
+     *
+     * @param value the string representation of the value
+     * @param type the type of the sort key
+     * @param typeResolver the resolver of the filter types used to parse the values that are not dates or times
+     * @return the sort key value, or null if the value can't be restored
+     */
+    public static Object fromCursorValue(String value, Class<?> type, FilterTypeResolver typeResolver) {
+
+        if (value == null)
+            return null;
+
+        try {
+            if (type == java.sql.Date.class)
+                return java.sql.Date.valueOf(LocalDate.parse(value));
+            else if (type == java.sql.Time.class)
+                return new java.sql.Time(Instant.parse(value).toEpochMilli());
+            else if (type == java.sql.Timestamp.class)
+                return java.sql.Timestamp.from(Instant.parse(value));
+            else if (type == Date.class)
+                return Date.from(Instant.parse(value));
+            else if (Calendar.class.isAssignableFrom(type)) {
+                // the values read by the persistence provider use the default time zone
+                var calendar = Calendar.getInstance();
+                calendar.setTimeInMillis(Instant.parse(value).toEpochMilli());
+                return calendar;
+            }
+            else if (type == Instant.class)
+                return Instant.parse(value);
+            else if (type == LocalDate.class)
+                return LocalDate.parse(value);
+            else if (type == LocalTime.class)
+                return LocalTime.parse(value);
+            else if (type == LocalDateTime.class)
+                return LocalDateTime.parse(value);
+            else if (type == OffsetTime.class)
+                return OffsetTime.parse(value);
+            else if (type == OffsetDateTime.class)
+                return OffsetDateTime.parse(value);
+            else if (type == ZonedDateTime.class)
+                return ZonedDateTime.parse(value);
+        }
+        catch (DateTimeException e) {
+            // cursor created with the local date-time format of previous versions
+        }
+
+        return typeResolver.getFilterType(type).getTypedValue(value);
+    }
+}
@@ -16,6 +16,7 @@ public class PagerDTO {
      * - NONE: Indicates that no paging is used.
      * - PAGINATION: Indicates that pagination is used.
      * - VIRTUALIZATION: Indicates that virtualization is used.
+     * - KEYSET: Indicates that keyset pagination is used.
      */
     private PagingType pagingType;
 
@@ -39,6 +40,17 @@ public class PagerDTO {
      */
     private long itemsCount;
 
+    /**
+     * Indicates whether the count of items is exact.
+     * It is false if the count was capped to a maximum or estimated, so there can be more or less items.
+     */
+    private boolean exact = true;
+
+    /**
+     * Indicates whether there is a page after the current one when the items are not counted.
+     */
+    private boolean hasNextPage;
+
     /**
      * Represents the starting index in a pager used for pagination or virtualization.
      *
@@ -56,6 +68,18 @@ public class PagerDTO {
      */
     private int virtualizedCount;
 
+    /**
+     * Represents the cursor to request the next page when using keyset pagination.
+     * It is null if there is no next page.
+     */
+    private String nextCursor;
+
+    /**
+     * Represents the cursor to request the previous page when using keyset pagination.
+     * It is null if there is no previous page.
+     */
+    private String previousCursor;
+
     /**
      * Represents a Data Transfer Object for a pager used in pagination or virtualization.
      */
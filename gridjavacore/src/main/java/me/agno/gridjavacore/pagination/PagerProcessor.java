@@ -1,10 +1,26 @@
 package me.agno.gridjavacore.pagination;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
-import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.*;
+import lombok.Getter;
 import lombok.Setter;
 import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.filtering.types.FilterTypeResolver;
+import me.agno.gridjavacore.utils.Pair;
+import me.agno.gridjavacore.utils.PathUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -13,17 +29,24 @@ import java.util.function.Function;
  * performing the processing operation.
  */
 public class PagerProcessor<T> implements IPagerProcessor<T> {
+
+    private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
+
     private final IGrid<T> grid;
 
+    private final FetchPlanner<T> fetchPlanner;
+
     /**
      * The processing function for the pager processor.
-     * It handles the processing of a CriteriaQuery with pagination.
+     * It handles the processing of a CriteriaQuery with pagination. The named parameters of the grid contained
+     * in the returned TypedQuery are bound to their values after the function is applied.
      *
      * @see PagerProcessor
      * @see IPagerProcessor
      * @see CriteriaQuery
      * @see TypedQuery
      */
+    @Getter
     @Setter
     private Function<CriteriaQuery<T>, TypedQuery<T>> process;
 
@@ -34,6 +57,7 @@ public class PagerProcessor<T> implements IPagerProcessor<T> {
      */
     public PagerProcessor(IGrid<T> grid) {
         this.grid = grid;
+        this.fetchPlanner = new FetchPlanner<T>(grid);
     }
 
     /**
@@ -57,12 +81,393 @@ public class PagerProcessor<T> implements IPagerProcessor<T> {
     public TypedQuery<T> process(CriteriaQuery<T> items) {
 
         if (this.process != null)
-            return this.process.apply(items);
+            return this.grid.bindParameters(this.process.apply(items));
+
+        if (items == null)
+            return null;
+
+        return page(fetch(this.grid.createQuery(items)));
+    }
+
+    // the to-one associations of the columns are loaded with the items, also if they are selected in a tuple
+    private <X> TypedQuery<X> fetch(TypedQuery<X> typedQuery) {
+        if (this.grid.isFetchGraph()) {
+            var entityGraph = this.fetchPlanner.getEntityGraph();
+            if (entityGraph != null)
+                typedQuery.setHint(LOAD_GRAPH_HINT, entityGraph);
+        }
+        return typedQuery;
+    }
+
+    /**
+     * Processes a CriteriaQuery with pagination without counting the items.
+     * One more item than the page size is retrieved to know if there is a next page.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @return a pair containing the page items and the number of items until the end of the page,
+     *         plus one if there is a next page
+     */
+    public Pair<List<T>, Long> processWithNextPage(CriteriaQuery<T> items) {
+
+        this.grid.getPager().setHasNextPage(false);
+
+        TypedQuery<T> typedQuery = process(items);
+        if (typedQuery == null)
+            return new Pair<>(new ArrayList<>(), 0L);
+
+        return nextPage(typedQuery, this.process != null);
+    }
+
+    /**
+     * Processes a CriteriaQuery with pagination when the total number of items is capped or estimated.
+     * The current page is not limited by the count, and one more item than the page size is retrieved
+     * to know if there is a next page.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @param count the capped or estimated number of items in the grid
+     * @return a pair containing the page items and the larger of the approximate count and the number of items
+     *         until the end of the page, plus one if there is a next page
+     */
+    public Pair<List<T>, Long> processWithApproximateCount(CriteriaQuery<T> items, long count) {
+        return approximatePage(processWithNextPage(items), count);
+    }
+
+    /**
+     * Processes a CriteriaQuery with pagination, selecting only the expressions of the grid columns.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @param count the total number of items in the grid
+     * @return the projected items of the page, or null if the query is null
+     */
+    public List<Map<String, Object>> processProjection(CriteriaQuery<T> items, long count) {
+
+        this.grid.getPager().initialize(count);
+
+        if (items == null)
+            return null;
+
+        var projection = getProjectionQuery(items);
+        var result = page(this.grid.createQuery(projection.getKey())).getResultList();
+        return getProjectedItems(result, projection.getValue());
+    }
+
+    /**
+     * Processes a CriteriaQuery with pagination without counting the items, selecting only the expressions
+     * of the grid columns. One more item than the page size is retrieved to know if there is a next page.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @return a pair containing the projected items of the page and the number of items until the end of the page,
+     *         plus one if there is a next page
+     */
+    public Pair<List<Map<String, Object>>, Long> processProjectionWithNextPage(CriteriaQuery<T> items) {
+
+        this.grid.getPager().setHasNextPage(false);
+
+        if (items == null)
+            return new Pair<>(new ArrayList<>(), 0L);
+
+        var projection = getProjectionQuery(items);
+        var page = nextPage(page(this.grid.createQuery(projection.getKey())), false);
+        return new Pair<>(getProjectedItems(page.getKey(), projection.getValue()), page.getValue());
+    }
+
+    /**
+     * Processes a CriteriaQuery with pagination when the total number of items is capped or estimated,
+     * selecting only the expressions of the grid columns. The current page is not limited by the count,
+     * and one more item than the page size is retrieved to know if there is a next page.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @param count the capped or estimated number of items in the grid
+     * @return a pair containing the projected items of the page and the larger of the approximate count and
+     *         the number of items until the end of the page, plus one if there is a next page
+     */
+    public Pair<List<Map<String, Object>>, Long> processProjectionWithApproximateCount(CriteriaQuery<T> items,
+                                                                                     long count) {
+        return approximatePage(processProjectionWithNextPage(items), count);
+    }
+
+    private <X> Pair<List<X>, Long> approximatePage(Pair<List<X>, Long> page, long count) {
+        long itemsCount = Math.max(count, page.getValue());
+        this.grid.getPager().initialize(itemsCount, false);
+        return new Pair<>(page.getKey(), itemsCount);
+    }
+
+    private <X> Pair<List<X>, Long> nextPage(TypedQuery<X> typedQuery, boolean customPage) {
+
+        var pager = this.grid.getPager();
+
+        List<X> result;
+        int maxResults = typedQuery.getMaxResults();
+        if (customPage)
+            result = typedQuery.getResultList(); //the custom process sets the page
+        else if (maxResults <= 0)
+            result = new ArrayList<>(); //incorrect page
+        else {
+            result = new ArrayList<>(typedQuery.setMaxResults(maxResults + 1).getResultList());
+            if (result.size() > maxResults) {
+                result.remove(maxResults);
+                pager.setHasNextPage(true);
+            }
+        }
+
+        long count = typedQuery.getFirstResult() + result.size() + (pager.isHasNextPage() ? 1 : 0);
+        pager.initialize(count);
+        return new Pair<>(result, count);
+    }
+
+    private Pair<CriteriaQuery<Tuple>, List<String>> getProjectionQuery(CriteriaQuery<T> items) {
+
+        var gridQuery = (SqmSelectStatement) items;
+        var gridQuerySpec = gridQuery.getQuerySpec();
+
+        var projectionBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var projectionQuery = (SqmSelectStatement<Tuple>) projectionBuilder.createTupleQuery();
+        projectionQuery.setQueryPart(gridQuerySpec.copy(SqmCopyContext.simpleContext()));
+        Root<?> projectionRoot = projectionQuery.getRootList().get(0);
+
+        // associations are left joined, so the projection returns the same rows as the entity query
+        List<String> expressions = new ArrayList<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (var column : this.grid.getColumns().values()) {
+            if (!(column instanceof GridCoreColumn) || column.getTargetType() == Collection.class)
+                continue;
+
+            String expression = ((GridCoreColumn<T, ?>) column).getExpression();
+            if (expression == null || expression.trim().isEmpty() || expressions.contains(expression))
+                continue;
+
+            selections.add(PathUtils.getPath(projectionRoot, expression, JoinType.LEFT));
+            expressions.add(expression);
+        }
+        projectionQuery.multiselect(selections);
+
+        return new Pair<>(projectionQuery, expressions);
+    }
+
+    private List<Map<String, Object>> getProjectedItems(List<Tuple> rows, List<String> expressions) {
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (var row : rows) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (int i = 0; i < expressions.size(); i++) {
+                String[] names = expressions.get(i).split("\\.");
+                Map<String, Object> parent = item;
+                for (int j = 0; j < names.length - 1; j++) {
+                    var child = parent.get(names[j]);
+                    if (!(child instanceof Map)) {
+                        child = new LinkedHashMap<String, Object>();
+                        parent.put(names[j], child);
+                    }
+                    parent = (Map<String, Object>) child;
+                }
+                parent.put(names[names.length - 1], row.get(i));
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Processes a CriteriaQuery with pagination, retrieving the total number of items with a
+     * count(*) over() window function in the same query as the page items.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @return a pair containing the page items and the total number of items, or null if the count
+     *         cannot be retrieved with the page items (custom process function or page after the last one)
+     */
+    public Pair<List<T>, Long> processWithWindowCount(CriteriaQuery<T> items) {
+
+        if (this.process != null || items == null)
+            return null;
+
+        var gridQuery = (SqmSelectStatement) items;
+        var gridQuerySpec = gridQuery.getQuerySpec();
+
+        var countBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var countQuery = (SqmSelectStatement<Tuple>) countBuilder.createTupleQuery();
+        countQuery.setQueryPart(gridQuerySpec.copy(SqmCopyContext.simpleContext()));
+        Root<?> countRoot = countQuery.getRootList().get(0);
+        countQuery.multiselect(countRoot, countBuilder.count(countBuilder.literal(1), countBuilder.createWindow()));
+
+        TypedQuery<Tuple> typedQuery = page(fetch(this.grid.createQuery(countQuery)));
+        var result = typedQuery.getResultList();
+
+        if (result.isEmpty()) {
+            if (typedQuery.getFirstResult() == 0 && typedQuery.getMaxResults() > 0)
+                return new Pair<>(new ArrayList<>(), 0L);
+            return null; //incorrect page or page after the last one
+        }
+
+        long count = result.get(0).get(1, Long.class);
+        this.grid.getPager().initialize(count);
+
+        var targetType = this.grid.getTargetType();
+        return new Pair<>(result.stream().map(r -> r.get(0, targetType)).toList(), count);
+    }
+
+    /**
+     * Processes a CriteriaQuery with keyset pagination. The page is located using the values of the sort keys
+     * of the boundary row contained in the cursor of the pager, instead of skipping the previous rows.
+     * The next and previous cursors of the returned page are set on the pager.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @param count the total number of items in the grid
+     * @return the list of items of the page
+     */
+    public List<T> processKeyset(CriteriaQuery<T> items, long count) {
+        this.grid.getPager().initialize(count);
+        return keysetPage(items);
+    }
+
+    /**
+     * Processes a CriteriaQuery with keyset pagination without counting the items.
+     * The next and previous cursors of the returned page are set on the pager, and there is a next page
+     * if the next cursor is set.
+     *
+     * @param items the CriteriaQuery to be processed
+     * @return a pair containing the page items and the number of items of the page, plus one if there is
+     *         a next page
+     */
+    public Pair<List<T>, Long> processKeysetWithNextPage(CriteriaQuery<T> items) {
+
+        var pager = this.grid.getPager();
+        var result = keysetPage(items);
+        if (result == null)
+            result = new ArrayList<>();
+
+        pager.setHasNextPage(pager.getNextCursor() != null);
+        long count = result.size() + (pager.isHasNextPage() ? 1 : 0);
+        pager.initialize(count);
+        return new Pair<>(result, count);
+    }
+
+    private List<T> keysetPage(CriteriaQuery<T> items) {
+
+        var pager = this.grid.getPager();
+        if (this.process != null)
+            return this.grid.bindParameters(this.process.apply(items)).getResultList();
 
         if (items == null)
             return null;
 
-        TypedQuery<T> typedQuery = this.grid.getEntityManager().createQuery(items);
+        pager.setNextCursor(null);
+        pager.setPreviousCursor(null);
+
+        var orders = items.getOrderList();
+        if (orders == null || orders.isEmpty())
+            return page(this.grid.createQuery(items)).getResultList(); //no sort keys
+
+        var context = SqmCopyContext.simpleContext();
+        var gridQuery = (SqmSelectStatement) items;
+        var gridQuerySpec = gridQuery.getQuerySpec().copy(context);
+
+        var keysetBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var keysetQuery = (SqmSelectStatement<Tuple>) keysetBuilder.createTupleQuery();
+        keysetQuery.setQueryPart(gridQuerySpec);
+        Root<?> keysetRoot = keysetQuery.getRootList().get(0);
+
+        var cursor = KeysetCursor.decode(pager.getCursor());
+        if (cursor != null && cursor.getValues().size() != orders.size())
+            cursor = null; //incorrect cursor
+        boolean previous = cursor != null && cursor.isPrevious();
+
+        List<Expression<?>> keys = new ArrayList<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Order> keysetOrders = new ArrayList<>();
+        selections.add(keysetRoot);
+        for (var order : orders) {
+            var key = ((SqmExpression<?>) order.getExpression()).copy(context);
+            keys.add(key);
+            selections.add(key);
+            // the null values are sorted as the lowest values in every database, as they are compared with the cursor
+            keysetOrders.add(order.isAscending() != previous ? keysetBuilder.asc(key, true)
+                    : keysetBuilder.desc(key, false));
+        }
+        keysetQuery.multiselect(selections);
+        keysetQuery.orderBy(keysetOrders);
+
+        var keysetPredicate = cursor == null ? null
+                : getKeysetPredicate(keysetBuilder, keys, keysetOrders, cursor.getValues());
+        if (keysetPredicate != null) {
+            var restriction = keysetQuery.getRestriction();
+            if (restriction == null)
+                keysetQuery.where(keysetPredicate);
+            else
+                keysetQuery.where(keysetBuilder.and(restriction, keysetPredicate));
+        }
+
+        int pageSize = pager.getPageSize();
+        if (pageSize <= 0)
+            return new ArrayList<>(); //incorrect page
+
+        // an additional row is retrieved to know if there is another page in the same direction
+        var result = new ArrayList<>(fetch(this.grid.createQuery(keysetQuery))
+                .setMaxResults(pageSize + 1)
+                .getResultList());
+        boolean hasMore = result.size() > pageSize;
+        if (hasMore)
+            result.remove(pageSize);
+        if (previous)
+            Collections.reverse(result);
+
+        if (! result.isEmpty()) {
+            if (previous ? cursor != null : hasMore)
+                pager.setNextCursor(getCursor(result.get(result.size() - 1), keys.size(), false));
+            if (previous ? hasMore : cursor != null)
+                pager.setPreviousCursor(getCursor(result.get(0), keys.size(), true));
+        }
+
+        var targetType = this.grid.getTargetType();
+        return result.stream().map(r -> r.get(0, targetType)).toList();
+    }
+
+    private Predicate getKeysetPredicate(CriteriaBuilder cb, List<Expression<?>> keys, List<Order> orders,
+                                         List<String> cursorValues) {
+
+        var typeResolver = FilterTypeResolver.getDefault();
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            var value = cursorValues.get(i);
+            values.add(KeysetCursor.fromCursorValue(value, keys.get(i).getJavaType(), typeResolver));
+        }
+
+        // (k1 > v1) or (k1 = v1 and k2 > v2) or ..., where the null values are lower than the other values
+        Predicate predicate = null;
+        for (int i = 0; i < keys.size(); i++) {
+            Expression key = keys.get(i);
+            Comparable value = (Comparable) values.get(i);
+            Predicate term;
+            if (orders.get(i).isAscending())
+                term = value == null ? cb.isNotNull(key) : cb.greaterThan(key, value);
+            else if (value == null)
+                continue; //there are no values lower than null
+            else
+                term = cb.or(cb.lessThan(key, value), cb.isNull(key));
+
+            for (int j = i - 1; j >= 0; j--) {
+                if (values.get(j) == null)
+                    term = cb.and(cb.isNull(keys.get(j)), term);
+                else
+                    term = cb.and(cb.equal(keys.get(j), values.get(j)), term);
+            }
+
+            if (predicate == null)
+                predicate = term;
+            else
+                predicate = cb.or(predicate, term);
+        }
+        return predicate;
+    }
+
+    private String getCursor(Tuple row, int keysCount, boolean previous) {
+        List<String> values = new ArrayList<>();
+        for (int i = 1; i <= keysCount; i++) {
+            values.add(KeysetCursor.toCursorValue(row.get(i)));
+        }
+        return new KeysetCursor(previous, values).encode();
+    }
+
+    private <X> TypedQuery<X> page(TypedQuery<X> typedQuery) {
 
         if (this.grid.getPagingType() == PagingType.VIRTUALIZATION) {
             if (this.grid.getPager() == null || this.grid.getPager().getStartIndex() < 0
@@ -83,4 +488,4 @@ public class PagerProcessor<T> implements IPagerProcessor<T> {
                     .setMaxResults(this.grid.getPager().getPageSize());
         }
     }
-}
\ No newline at end of file
+}
@@ -8,12 +8,14 @@ import com.fasterxml.jackson.annotation.JsonFormat;
  * - NONE: No paging is applied.
  * - PAGINATION: Paging is done by specifying the current page number and page size.
  * - VIRTUALIZATION: Paging is done by specifying the start index and virtualized count.
+ * - KEYSET: Paging is done by specifying a cursor with the sort key values of the boundary row of the previous page.
  */
 @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
 public enum PagingType {
     NONE,
     PAGINATION,
-    VIRTUALIZATION;
+    VIRTUALIZATION,
+    KEYSET;
 
     /**
      * Returns a string representation of the enum constant.
@@ -25,6 +27,7 @@ public enum PagingType {
             case NONE -> "0";
             case PAGINATION -> "1";
             case VIRTUALIZATION -> "2";
+            case KEYSET -> "3";
             default -> null;
         };
     }
@@ -2,7 +2,13 @@ package me.agno.gridjavacore.searching;
 
 import jakarta.persistence.criteria.*;
 import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.filtering.GridFilterType;
+import me.agno.gridjavacore.utils.DiacriticsUtils;
+import me.agno.gridjavacore.utils.PathUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 
 /**
@@ -57,76 +63,163 @@ public class DefaultColumnSearch<T, TData> implements IColumnSearch<T> {
         if (onlyTextColumns && !this.column.getTargetType().equals(String.class))
             return null;
 
+        if (!onlyTextColumns && !this.column.getTargetType().equals(String.class)
+                && this.column.getParentGrid().getSearchOptions().isTypedColumns())
+            return getTypedExpression(cb, cq, root, value.trim());
+
         if (this.column.getTargetType().equals(Collection.class)) {
 
-            var subquery = getCollectionCount(cb, cq, root);
-            return cb.like(cb.upper(subquery.as(String.class)),
-                    '%' + value.toUpperCase() + '%');
+            var count = getCollectionCountExpression(root);
+            return cb.like(cb.upper(count.as(String.class)),
+                    getParameter('%' + value.toUpperCase() + '%'));
         }
         else {
             var path = getPath(root, this.column.getExpression());
 
-            if (removeDiacritics == null) {
+            if (removeDiacritics == null && this.column.getTargetType().equals(String.class)) {
+                return this.column.getParentGrid().getTextPredicateStrategy().getPredicate(cb, (Path<String>) path,
+                        GridFilterType.CONTAINS, value, this::getParameter);
+            } else if (this.column.getTargetType().equals(String.class)
+                    && this.column.getNormalizedExpression() != null) {
+                // the companion attribute without diacritics is compared with the value normalized in Java
+                Path<String> normalizedPath = PathUtils.getPath(root, this.column.getNormalizedExpression());
+                return this.column.getParentGrid().getTextPredicateStrategy().getPredicate(cb, normalizedPath,
+                        GridFilterType.CONTAINS, DiacriticsUtils.removeDiacritics(value), this::getParameter);
+            } else if (removeDiacritics == null) {
                 return cb.like(cb.upper(path.as(String.class)),
-                        '%' + value.toUpperCase() + '%');
+                        getParameter('%' + value.toUpperCase() + '%'));
             } else {
                 return cb.like(cb.function(removeDiacritics, String.class, cb.upper(path.as(String.class))),
-                        cb.function(removeDiacritics, String.class, cb.literal('%' + value.toUpperCase() + '%')));
+                        cb.function(removeDiacritics, String.class, getParameter('%' + value.toUpperCase() + '%')));
             }
         }
     }
 
     /**
-     * Returns a Path object representing the path to a specific column in a grid.
+     * Returns a Predicate object comparing a non-text column with the search value parsed with the type of the column,
+     * so the predicate can use the indexes of the column. Dates compared with date-time columns match the whole day.
      *
+     * @param cb The CriteriaBuilder object to build the search expression.
+     * @param cq The criteria query
      * @param root The Root object representing the root entity of the query.
-     * @param expression The expression that represents the column.
-     * @return A Path object representing the path to the column.
+     * @param value The search value.
+     * @return A Predicate object representing the search expression, or null if the search value is not a value
+     * of the column type and the column is not searched.
      */
-    public Path<TData> getPath(Root<T> root, String expression) {
+    private Predicate getTypedExpression(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root, String value) {
+
+        Class type = this.column.getTargetType();
+        if (type.equals(Collection.class)) {
+            Long count = parseLong(value);
+            var countExpression = count == null ? null : getCollectionCountExpression(root);
+            if (countExpression == null)
+                return null;
+            return cb.equal(countExpression, this.column.getParentGrid().createParameter(Long.class, count));
+        }
+
+        var path = getPath(root, this.column.getExpression());
+        if (type.equals(LocalDateTime.class)) {
+            var date = parseLocalDate(value);
+            if (date != null) {
+                Path<LocalDateTime> datePath = (Path<LocalDateTime>) path;
+                var grid = this.column.getParentGrid();
+                return cb.and(
+                        cb.greaterThanOrEqualTo(datePath,
+                                grid.createParameter(LocalDateTime.class, date.atStartOfDay())),
+                        cb.lessThan(datePath,
+                                grid.createParameter(LocalDateTime.class, date.plusDays(1).atStartOfDay())));
+            }
+        }
+
+        Object typedValue;
+        if (type.equals(Boolean.class))
+            typedValue = "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)
+                    ? Boolean.valueOf(value) : null;
+        else if (type.isEnum())
+            typedValue = getEnumValue(type, value);
+        else
+            typedValue = this.column.getFilterType().getTypedValue(value);
 
-        if(expression == null || expression.trim().isEmpty())
+        if (typedValue == null || !type.isInstance(typedValue))
+            return null; //not a value of the column type
+
+        return cb.equal(path, this.column.getParentGrid().createParameter(type, typedValue));
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        }
+        catch (Exception e) {
             return null;
+        }
+    }
 
-        String[] names = expression.split("\\.");
-        var path = root.get(names[0]);
+    private LocalDate parseLocalDate(String value) {
+        try {
+            return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
 
-        if(names.length > 1) {
-            for(int i = 1; i < names.length; i ++) {
-                path = path.get(names[i]);
-            }
+    private Object getEnumValue(Class<?> type, String value) {
+        for (var constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equalsIgnoreCase(value))
+                return constant;
         }
+        return null;
+    }
 
-        return (Path<TData>) path;
+    /**
+     * Creates a parameter of the grid bound to the search pattern, so the pattern is sent to the database
+     * as a JDBC parameter instead of a literal.
+     *
+     * @param pattern The search pattern.
+     * @return The parameter expression.
+     */
+    private Expression<String> getParameter(String pattern) {
+        return this.column.getParentGrid().createParameter(String.class, pattern);
     }
 
     /**
      * Returns a Path object representing the path to a specific column in a grid.
      *
+     * @param root The Root object representing the root entity of the query.
+     * @param expression The expression that represents the column.
+     * @return A Path object representing the path to the column.
+     */
+    public Path<TData> getPath(Root<T> root, String expression) {
+        return PathUtils.getPath(root, expression);
+    }
+
+    /**
+     * Returns a correlated subquery counting the subgrid items of the Collection column for each item of a query.
+     *
      * @param cb The CriteriaBuilder object to build the search expression.
      * @param cq The criteria query
      * @param root The Root object representing the root entity of the query.
-     * @return A Subquery object representing the path to the Collection column.
+     * @return A Subquery object representing the count of the Collection column, or null if the column
+     * expression is not valid.
+     * @deprecated the subquery is evaluated for each item of the query, use {@link #getCollectionCountExpression(Root)}
+     * instead, that counts the subgrid items once in a derived table joined to the grid root.
      */
+    @Deprecated
     public Subquery<Long> getCollectionCount(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root) {
+        return this.column.getParentGrid().getCollectionCountProcessor().subquery(this.column, cq, root);
+    }
 
-        String[] names = column.getExpression().split("\\.");
-        if(names.length >= 2 && names[names.length -1].equalsIgnoreCase("count")) {
-
-            Subquery<Long> subquery = cq.subquery(Long.class);
-            Root<?> subRoot = subquery.from(column.getSubgridTargetType());
-
-            Predicate[] predicates = new Predicate[column.getSubgridKeys().length];
-            for (int i = 0; i < column.getSubgridKeys().length; i++) {
-                predicates[i] = cb.equal(root.get(column.getSubgridKeys()[i].getKey()),
-                        subRoot.get(column.getSubgridKeys()[i].getValue()));
-            }
-
-            return subquery.select(cb.count(cb.literal(1)))
-                    .where(predicates);
-        }
-        else {
-            return null; //incorrent column name;
-        }
+    /**
+     * Returns the number of subgrid items of the Collection column for each item of the grid query.
+     * The count is calculated by a grouped derived table joined to the grid root, that is shared by the filters,
+     * sort orders, search and totals of the column.
+     *
+     * @param root The Root object representing the root entity of the query.
+     * @return An Expression object representing the count of the Collection column, or null if the column
+     * expression is not valid.
+     */
+    public Expression<Long> getCollectionCountExpression(Root<T> root) {
+        return this.column.getParentGrid().getCollectionCountProcessor().process(this.column, root);
     }
 }
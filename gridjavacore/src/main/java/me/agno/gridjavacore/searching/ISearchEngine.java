@@ -0,0 +1,28 @@
+package me.agno.gridjavacore.searching;
+
+import me.agno.gridjavacore.SearchOptions;
+
+import java.util.List;
+
+/**
+ * The ISearchEngine interface represents an external search engine, as a Lucene index maintained with
+ * Hibernate Search, used to resolve the search value of a grid instead of comparing it with every searchable
+ * column in the database. The identifiers of the matching items are added to the grid query with an IN predicate.
+ *
+ * @param <T> the type of the grid items
+ */
+public interface ISearchEngine<T> {
+
+    /**
+     * Searches the items matching a search value.
+     * Only the first {@code engineHits} identifiers of the search options are added to the grid query, so the engine
+     * should fetch no more hits than that.
+     *
+     * @param targetType the type of the grid items
+     * @param searchValue the search value, not split in words
+     * @param searchOptions the search options of the grid
+     * @return the identifiers of the matching items sorted by relevance, or null if the engine can't resolve
+     *         the search value and the search must be applied to the searchable columns
+     */
+    List<?> search(Class<T> targetType, String searchValue, SearchOptions searchOptions);
+}
@@ -1,10 +1,18 @@
 package me.agno.gridjavacore.searching;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
 import lombok.Setter;
 import me.agno.gridjavacore.IGrid;
 import me.agno.gridjavacore.columns.IGridColumn;
+import me.agno.gridjavacore.utils.PathUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -23,6 +31,31 @@ public class SearchProcessor<T> {
     @Setter
     private Function<Predicate, Predicate> process;
 
+    /**
+     * The search engine used to resolve the search value, or null if the search value is compared with
+     * the searchable columns in the database.
+     */
+    @Getter
+    @Setter
+    private ISearchEngine<T> searchEngine;
+
+    /**
+     * The order of the grid items by the relevance returned by the search engine, or null if the search engine
+     * is not used or the relevance order is not enabled in the search options.
+     */
+    @Getter
+    private Order relevanceOrder;
+
+    /**
+     * Indicates whether the search engine returned at least as many identifiers as the {@code engineHits} option,
+     * so more items can match the search value and the items count of the grid is not exact.
+     */
+    @Getter
+    private boolean truncated;
+
+    private boolean engineSearched; //is the search engine called?
+    private List<?> engineIds; //identifiers returned by the search engine
+
     /**
      * Constructor for the SearchProcessor class.
      *
@@ -63,7 +96,14 @@ public class SearchProcessor<T> {
         if (this.grid.getSearchOptions().isEnabled() && this.settings.getSearchValue() != null
                 && !this.settings.getSearchValue().isEmpty()) {
 
-            if (this.grid.getSearchOptions().isSplittedWords()) {
+            var enginePredicate = getEngineExpression(this.settings.getSearchValue());
+            if (enginePredicate != null) {
+                if(predicate == null)
+                    predicate = enginePredicate;
+                else
+                    predicate = this.grid.getCriteriaBuilder().and(predicate, enginePredicate);
+            }
+            else if (this.grid.getSearchOptions().isSplittedWords()) {
                 var searchWords = this.settings.getSearchValue().split(" ");
                 for (var searchWord : searchWords) {
                     var newPredicate = GetExpression(searchWord);
@@ -84,6 +124,62 @@ public class SearchProcessor<T> {
         return predicate;
     }
 
+    // the engine is called only once, and its identifiers are matched with the identifier of the grid items
+    private Predicate getEngineExpression(String searchValue) {
+
+        if (this.searchEngine == null)
+            return null;
+
+        if (!this.engineSearched) {
+            this.engineSearched = true;
+            this.engineIds = this.searchEngine.search(this.grid.getTargetType(), searchValue,
+                    this.grid.getSearchOptions());
+        }
+        if (this.engineIds == null)
+            return null;
+
+        var idAttribute = PathUtils.getIdAttribute(this.grid.getRoot());
+        if (idAttribute == null)
+            return null; //the items don't have a single identifier
+
+        CriteriaBuilder cb = this.grid.getCriteriaBuilder();
+        if (this.engineIds.isEmpty())
+            return cb.disjunction();
+
+        // the hits are bound to a single list parameter padded to a power of two, so the text of the query
+        // only changes when the padded size changes and it is kept in the query plan cache
+        var options = this.grid.getSearchOptions();
+        int hits = Math.min(this.engineIds.size(), Math.max(options.getEngineHits(), 1));
+        this.truncated = this.engineIds.size() >= Math.max(options.getEngineHits(), 1);
+        var ids = pad(this.engineIds.subList(0, hits));
+        Path<Object> path = this.grid.getRoot().get(idAttribute.getName());
+        Predicate in = path.in(this.grid.createParameter((Class) Collection.class, ids));
+
+        if (options.isRelevanceOrder()) {
+            var relevanceIds = pad(ids.subList(0, Math.min(ids.size(), Math.max(options.getRelevanceHits(), 1))));
+            CriteriaBuilder.Case<Integer> relevance = cb.selectCase();
+            for (int i = 0; i < relevanceIds.size(); i++) {
+                Object id = relevanceIds.get(i);
+                relevance = relevance.when(cb.equal(path, this.grid.createParameter((Class) id.getClass(), id)),
+                        cb.literal(i));
+            }
+            this.relevanceOrder = cb.asc(relevance.otherwise(cb.literal(relevanceIds.size())));
+        }
+
+        return in;
+    }
+
+    // the last identifier is repeated up to the next power of two, which doesn't change the results
+    private static List<Object> pad(List<?> ids) {
+        List<Object> padded = new ArrayList<>(ids);
+        int size = Integer.highestOneBit(ids.size());
+        if (size < ids.size())
+            size <<= 1;
+        while (padded.size() < size)
+            padded.add(ids.get(ids.size() - 1));
+        return padded;
+    }
+
     private Predicate GetExpression(String searchValue)
     {
         Predicate predicate = null;
@@ -0,0 +1,152 @@
+package me.agno.gridjavacore.server;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import me.agno.gridjavacore.Grid;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.columns.GridColumnDefinition;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.utils.PathUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The GridDefinition class represents the configuration of a grid compiled once and shared by all the requests.
+ * The column function is executed only once, when the definition is created, and the configured columns are
+ * compiled to immutable {@link GridColumnDefinition} objects with their settings, the filter types of their data and
+ * their secondary orderers. The expressions of the columns are resolved against the entity model of the target type,
+ * so an invalid expression fails when the definition is created instead of when a request filters or sorts it.
+ * The grid of each request binds its columns to the compiled definitions, without executing the column function or
+ * reading the annotations of the target type again.
+ *
+ * @param <T> the type of the grid items
+ */
+@Getter
+public final class GridDefinition<T> {
+
+    /**
+     * The class representing the target type of the grid data.
+     */
+    private final Class<T> targetType;
+
+    /**
+     * The compiled definitions of the grid columns, in the order in which they were added.
+     */
+    private final List<GridColumnDefinition<T>> columns;
+
+    /**
+     * The number of items to display per page, or 0 if paging is not enabled.
+     */
+    private final int pageSize;
+
+    /**
+     * The function used to configure the options of the grid server, such as sorting, filtering or searching.
+     * It is executed for each request, after the columns are bound.
+     */
+    private final Consumer<IGridServer<T>> options;
+
+    /**
+     * Constructs a GridDefinition object, compiling its columns.
+     *
+     * @param entityManagerFactory the entity manager factory used to resolve the column expressions
+     * @param targetType the class representing the target type of the grid data
+     * @param columns the function used to configure the grid columns
+     */
+    public GridDefinition(EntityManagerFactory entityManagerFactory, Class<T> targetType,
+                          Consumer<IGridColumnCollection<T>> columns) {
+        this(entityManagerFactory, targetType, columns, 0, null);
+    }
+
+    /**
+     * Constructs a GridDefinition object, compiling its columns.
+     *
+     * @param entityManagerFactory the entity manager factory used to resolve the column expressions
+     * @param targetType the class representing the target type of the grid data
+     * @param columns the function used to configure the grid columns
+     * @param pageSize the number of items to display per page
+     */
+    public GridDefinition(EntityManagerFactory entityManagerFactory, Class<T> targetType,
+                          Consumer<IGridColumnCollection<T>> columns, int pageSize) {
+        this(entityManagerFactory, targetType, columns, pageSize, null);
+    }
+
+    /**
+     * Constructs a GridDefinition object, compiling its columns.
+     *
+     * @param entityManagerFactory the entity manager factory used to resolve the column expressions
+     * @param targetType the class representing the target type of the grid data
+     * @param columns the function used to configure the grid columns
+     * @param pageSize the number of items to display per page
+     * @param options the function used to configure the options of the grid server of each request
+     * @throws IllegalArgumentException if a column expression is not an attribute of the target type
+     * or a column can't be compiled
+     */
+    public GridDefinition(EntityManagerFactory entityManagerFactory, Class<T> targetType,
+                          Consumer<IGridColumnCollection<T>> columns, int pageSize,
+                          Consumer<IGridServer<T>> options) {
+        if (entityManagerFactory == null)
+            throw new IllegalArgumentException("entityManagerFactory");
+        if (targetType == null)
+            throw new IllegalArgumentException("targetType");
+
+        this.targetType = targetType;
+        this.columns = compile(entityManagerFactory, targetType, columns);
+        this.pageSize = pageSize;
+        this.options = options;
+    }
+
+    private static <T> List<GridColumnDefinition<T>> compile(EntityManagerFactory entityManagerFactory,
+                                                             Class<T> targetType,
+                                                             Consumer<IGridColumnCollection<T>> columns) {
+        List<GridColumnDefinition<T>> definitions = new ArrayList<>();
+        if (columns == null)
+            return Collections.unmodifiableList(definitions);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            var grid = new Grid<T>(entityManager, targetType, new LinkedHashMap<>(), null);
+            columns.accept(grid.getColumns());
+
+            for (var column : grid.getColumns().values()) {
+                var definition = GridColumnDefinition.compile(column);
+                if (definition.getExpression() != null) {
+                    try {
+                        PathUtils.getPath(grid.getRoot(), definition.getExpression());
+                    }
+                    catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Column '" + definition.getName()
+                                + "' has an invalid expression '" + definition.getExpression() + "'", e);
+                    }
+                }
+                definitions.add(definition);
+            }
+        }
+        finally {
+            entityManager.close();
+        }
+        return Collections.unmodifiableList(definitions);
+    }
+
+    /**
+     * Creates a grid server for a request, binding its columns to the compiled column definitions.
+     *
+     * @param entityManager the entity manager used to execute the queries of the request
+     * @param query the query parameters of the request for filtering, sorting, searching and paging
+     * @return the grid server bound to the request
+     */
+    public IGridServer<T> createServer(EntityManager entityManager, Map<String, String[]> query) {
+        var server = new GridServer<T>(entityManager, this.targetType, query, columns -> {
+            for (var definition : this.columns)
+                columns.add(new GridCoreColumn<T, Object>(definition, columns.getGrid()));
+        }, this.pageSize);
+        if (this.options != null)
+            this.options.accept(server);
+        return server;
+    }
+}
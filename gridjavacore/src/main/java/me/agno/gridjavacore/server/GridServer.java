@@ -1,6 +1,7 @@
 package me.agno.gridjavacore.server;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import lombok.Getter;
@@ -11,18 +12,32 @@ import me.agno.gridjavacore.SearchOptions;
 import me.agno.gridjavacore.columns.GridCoreColumn;
 import me.agno.gridjavacore.columns.IColumnBuilder;
 import me.agno.gridjavacore.columns.IGridColumn;
+import me.agno.gridjavacore.export.ExportFormat;
+import me.agno.gridjavacore.export.GridExporter;
+import me.agno.gridjavacore.filtering.DistinctValuesCache;
+import me.agno.gridjavacore.filtering.types.ITextPredicateStrategy;
+import me.agno.gridjavacore.filtering.types.TextPredicateStrategy;
+import me.agno.gridjavacore.grouping.GroupDTO;
 import me.agno.gridjavacore.pagination.GridPager;
 import me.agno.gridjavacore.pagination.PagerDTO;
 import me.agno.gridjavacore.pagination.PagingType;
+import me.agno.gridjavacore.searching.ISearchEngine;
 import me.agno.gridjavacore.sorting.GridSortMode;
 import me.agno.gridjavacore.totals.TotalsDTO;
 import me.agno.gridjavacore.utils.ItemsDTO;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -156,6 +171,19 @@ public class GridServer<T> implements IGridServer<T> {
         return this;
     }
 
+    /**
+     * Sets the keyset paging options for the grid.
+     * Pages are requested with the cursors returned in the pager information instead of a page number.
+     *
+     * @param pageSize the number of items to display per page
+     * @return an instance of the IGridServer object with keyset paging set
+     */
+    public IGridServer<T> withKeysetPaging(int pageSize) {
+        this.grid.setPagingType(PagingType.KEYSET);
+        this.grid.getPager().setPageSize(pageSize);
+        return this;
+    }
+
     /**
      * Enables sorting functionality for the grid with the default sort mode.
      *
@@ -301,6 +329,308 @@ public class GridServer<T> implements IGridServer<T> {
         return this;
     }
 
+    /**
+     * Enables the calculation of all the column totals with a single aggregate query.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFusedTotals() {
+        return withFusedTotals(true);
+    }
+
+    /**
+     * Sets whether all the column totals are calculated with a single aggregate query.
+     *
+     * @param enable {@code true} to calculate the totals with a single query, {@code false} to execute a query for each total
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFusedTotals(boolean enable) {
+        this.grid.setFusedTotals(enable);
+        return this;
+    }
+
+    /**
+     * Enables the calculation of the items count and all the column totals with a single aggregate query.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFusedCount() {
+        return withFusedCount(true);
+    }
+
+    /**
+     * Sets whether the items count and all the column totals are calculated with a single aggregate query.
+     * Enabling it also enables the fused totals, but disabling it doesn't change them.
+     *
+     * @param enable {@code true} to calculate the count and the totals with a single query, {@code false} otherwise
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFusedCount(boolean enable) {
+        if (enable)
+            this.grid.setFusedTotals(true);
+        this.grid.setFusedCount(enable);
+        return this;
+    }
+
+    /**
+     * Enables the retrieval of the items count with a count(*) over() window function in the page query.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withWindowCount() {
+        return withWindowCount(true);
+    }
+
+    /**
+     * Sets whether the items count is retrieved with a count(*) over() window function in the page query.
+     * It is only applied to paged grids without totals.
+     *
+     * @param enable {@code true} to retrieve the count with the page items, {@code false} to calculate it with a separate query
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withWindowCount(boolean enable) {
+        this.grid.setWindowCount(enable);
+        return this;
+    }
+
+    /**
+     * Enables the calculation of the IS_DUPLICATED and IS_NOT_DUPLICATED filters with a
+     * count(*) over (partition by column) window function.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withWindowDuplicates() {
+        return withWindowDuplicates(true);
+    }
+
+    /**
+     * Sets whether the IS_DUPLICATED and IS_NOT_DUPLICATED filters are calculated with a
+     * count(*) over (partition by column) window function. It is only applied to entities with a single identifier
+     * and to columns that are not collections.
+     *
+     * @param enable {@code true} to use a window function, {@code false} to use a GROUP BY subquery
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withWindowDuplicates(boolean enable) {
+        this.grid.setWindowDuplicates(enable);
+        return this;
+    }
+
+    /**
+     * Skips the items count query. One more item than the page size is retrieved to know if there is a next page.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withNoCount() {
+        return withNoCount(true);
+    }
+
+    /**
+     * Sets whether the items count query is skipped. One more item than the page size is retrieved
+     * to know if there is a next page. It is only applied to paginated, virtualized and keyset paged grids.
+     *
+     * @param enable {@code true} to skip the count query, {@code false} to count the items
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withNoCount(boolean enable) {
+        this.grid.setNoCount(enable);
+        return this;
+    }
+
+    /**
+     * Enables the projection of the grid columns in the page query.
+     * The items must be retrieved with the getProjectedItemsToDisplay method.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withProjection() {
+        return withProjection(true);
+    }
+
+    /**
+     * Sets whether the page query selects only the expressions of the grid columns instead of the entities.
+     * The items must be retrieved with the getProjectedItemsToDisplay method.
+     *
+     * @param enable {@code true} to select only the grid columns, {@code false} to select the entities
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withProjection(boolean enable) {
+        this.grid.setProjection(enable);
+        return this;
+    }
+
+    /**
+     * Enables the read-only mode for the grid queries.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withReadOnly() {
+        return withReadOnly(true);
+    }
+
+    /**
+     * Sets whether the grid queries are executed in read-only mode. The items are loaded as read-only entities
+     * without snapshots for dirty checking, and the persistence context is not flushed before the queries.
+     *
+     * @param enable {@code true} to execute the queries in read-only mode, {@code false} otherwise
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withReadOnly(boolean enable) {
+        this.grid.setReadOnly(enable);
+        return this;
+    }
+
+    /**
+     * Enables the creation of the grid queries from their HQL strings.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withHqlQueries() {
+        return withHqlQueries(true);
+    }
+
+    /**
+     * Sets whether the grid queries are created from their HQL strings instead of the criteria queries.
+     * The HQL string of a query only depends on the shape of the grid (the filtered columns and operators,
+     * the sorted columns, the searched columns and the paging type), so Hibernate caches its interpretation
+     * and SQL translation in the query plan cache and only the parameter values change between requests.
+     *
+     * @param enable {@code true} to create the queries from HQL strings, {@code false} otherwise
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withHqlQueries(boolean enable) {
+        this.grid.setHqlQueries(enable);
+        return this;
+    }
+
+    /**
+     * Restricts the grid items to the items of an expanded group, so the items of the group are paged, counted
+     * and totaled like the items of the grid. The values are parsed like the filter values of each column,
+     * and a null value selects the items without value. The groups retrieved with {@link #getGroups(List)}
+     * are also restricted to the expanded group, so they are the subgroups of the group.
+     *
+     * @param group the values of the group columns of the expanded group, keyed by the column names
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withGroup(Map<String, String> group) {
+        this.grid.getGroupProcessor().setGroup(group);
+        return this;
+    }
+
+    /**
+     * Sets the cache of the distinct values retrieved with {@link #getDistinctValues(String, int, String)}.
+     * The values are cached by the filter, search and group state of the grid, so a cache must only be used with
+     * one set of columns and one server-side predicate, and it must be cleared when the data changes if the values
+     * are expected to be fresher than its time to live.
+     *
+     * @param cache the cache of distinct values, or null to disable the cache
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withDistinctValuesCache(DistinctValuesCache cache) {
+        this.grid.getDistinctValuesProcessor().setCache(cache);
+        return this;
+    }
+
+    /**
+     * Sets the columns whose facets are returned with the items of the grid. The facets contain the number of items
+     * for each value of the columns, calculated without the filter of each column, so they can be shown next to
+     * the options of the list filters. The facet columns are expected to have a low cardinality.
+     *
+     * @param columnNames the names of the facet columns
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFacets(String... columnNames) {
+        this.grid.getFacetProcessor().setColumnNames(columnNames == null ? null : Arrays.asList(columnNames));
+        return this;
+    }
+
+    /**
+     * Sets the search engine used to resolve the search value, as a Lucene index maintained with Hibernate Search.
+     * The identifiers of the items returned by the engine are added to the grid query with an IN predicate,
+     * instead of comparing the search value with every searchable column. If the relevance order is enabled
+     * in the search options, the items are sorted by relevance when they are not sorted by any column.
+     * If the engine can't resolve the search value, the searchable columns are searched in the database.
+     *
+     * @param searchEngine the search engine, or null to search the searchable columns in the database
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withSearchEngine(ISearchEngine<T> searchEngine) {
+        this.grid.getSearchProcessor().setSearchEngine(searchEngine);
+        return this;
+    }
+
+    /**
+     * Sets the strategy used to compare the text columns for the Hibernate dialect of the database,
+     * as returned by {@link TextPredicateStrategy#forDialect(Dialect)}.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withTextPredicateStrategy() {
+        var dialect = this.grid.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        return withTextPredicateStrategy(TextPredicateStrategy.forDialect(dialect));
+    }
+
+    /**
+     * Sets the strategy used to compare the text columns with the filter and search values.
+     * The default strategy converts the columns to upper case, so the comparisons can't use ordinary indexes.
+     * The strategy is not used if the diacritics are removed.
+     *
+     * @param textPredicateStrategy the text predicate strategy
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withTextPredicateStrategy(ITextPredicateStrategy textPredicateStrategy) {
+        if (textPredicateStrategy == null)
+            throw new IllegalArgumentException("textPredicateStrategy");
+        this.grid.setTextPredicateStrategy(textPredicateStrategy);
+        return this;
+    }
+
+    /**
+     * Enables the loading of the to-one associations navigated by the column expressions with the page items.
+     *
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFetchGraph() {
+        return withFetchGraph(true);
+    }
+
+    /**
+     * Sets whether the to-one associations navigated by the column expressions are loaded with the page items,
+     * using an entity graph built from the grid columns.
+     *
+     * @param enable {@code true} to load the associations with the page items, {@code false} to use their fetch type
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withFetchGraph(boolean enable) {
+        this.grid.setFetchGraph(enable);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of items counted.
+     * If there are more items, the count is reported as not exact and its value is the maximum.
+     *
+     * @param maxCount the maximum number of items counted, or 0 to count all the items
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withCappedCount(long maxCount) {
+        this.grid.getCountProcessor().setMaxCount(maxCount);
+        return this;
+    }
+
+    /**
+     * Sets the function used to estimate the items count, for example from the database statistics.
+     * The estimated count is reported as not exact. If the function returns null, the items are counted.
+     *
+     * @param estimate the function returning the estimated count of items, or null if it is not available
+     * @return an instance of the IGridServer object
+     */
+    public IGridServer<T> withEstimatedCount(Function<IGrid<T>, Long> estimate) {
+        this.grid.getCountProcessor().setEstimate(estimate);
+        return this;
+    }
+
     /**
      * Sets the predicate for filtering the grid data.
      *
@@ -323,6 +653,24 @@ public class GridServer<T> implements IGridServer<T> {
         return this;
     }
 
+    /**
+     * Retrieves the items to display in the grid along with totals and paging information,
+     * running the count, totals and page queries concurrently on the given executor.
+     * The executor should be dedicated to blocking work, as a bounded thread pool or a virtual thread executor,
+     * because the queries block its threads while they are executed by the database.
+     *
+     * @param entityManagerFactory the factory used to create the entity manager of each query
+     * @param executor the executor used to run the queries
+     * @return a future of the ItemsDTO containing the items, totals, and pager information
+     */
+    public CompletableFuture<ItemsDTO<T>> getItemsToDisplayAsync(EntityManagerFactory entityManagerFactory,
+                                                                 Executor executor) {
+        // the facets are queried after the items, so they also need an entity manager of the executor thread
+        return this.grid.processAsync(entityManagerFactory, executor)
+                .thenApplyAsync(r -> this.grid.withEntityManager(entityManagerFactory, this::getItemsToDisplay),
+                        executor);
+    }
+
     /**
      * Retrieves the items to display in the grid along with totals and paging information.
      *
@@ -331,16 +679,139 @@ public class GridServer<T> implements IGridServer<T> {
     public ItemsDTO<T> getItemsToDisplay() {
 
         var items = this.grid.getItemsToDisplay();
+        return new ItemsDTO<T>(items, getTotals(), getPager(), getFacets());
+    }
+
+    /**
+     * Retrieves the projected items to display in the grid along with totals and paging information.
+     * Each item is a map with the values of the grid columns, nested by the path of the column expressions.
+     *
+     * @return an instance of ItemsDTO containing the projected items, totals, and pager information
+     */
+    public ItemsDTO<Map<String, Object>> getProjectedItemsToDisplay() {
+
+        var items = this.grid.getProjectedItemsToDisplay();
+        return new ItemsDTO<Map<String, Object>>(items, getTotals(), getPager(), getFacets());
+    }
+
+    /**
+     * Retrieves the groups of the filtered and searched items of the grid for the given group columns.
+     * The key values, the number of items and the totals of the columns of each group are calculated
+     * in the database with a GROUP BY query, so the groups are correct for all the items of the grid.
+     *
+     * @param columnNames the names of the group columns
+     * @return the list of groups sorted by the group key values
+     */
+    public List<GroupDTO> getGroups(List<String> columnNames) {
+        return getGroups(columnNames, 0);
+    }
+
+    /**
+     * Retrieves the groups of the filtered and searched items of the grid for the given group columns.
+     * The key values, the number of items and the totals of the columns of each group are calculated
+     * in the database with a GROUP BY query, so the groups are correct for all the items of the grid.
+     *
+     * @param columnNames the names of the group columns
+     * @param maxGroups the maximum number of groups to retrieve, or 0 to retrieve all the groups
+     * @return the list of groups sorted by the group key values
+     */
+    public List<GroupDTO> getGroups(List<String> columnNames, int maxGroups) {
+        return this.grid.getGroups(columnNames, maxGroups);
+    }
 
-        TotalsDTO totals;
+    /**
+     * Retrieves the distinct non-null values of a column for the items of the grid, to populate a list filter.
+     * The filter of the column is not applied, so the list keeps all the values matching the other filters,
+     * the search and the group of the grid. The values are retrieved with a SELECT DISTINCT query.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values of a string column, compared as a starts-with filter, or null to retrieve
+     *               all the values
+     * @return the list of distinct values sorted ascending
+     */
+    public List<Object> getDistinctValues(String columnName, int limit, String prefix) {
+        return getDistinctValues(columnName, limit, prefix, true);
+    }
+
+    /**
+     * Retrieves the distinct non-null values of a column for the items of the grid, to populate a list filter.
+     * The values are retrieved with a SELECT DISTINCT query, or from the cache set with
+     * {@link #withDistinctValuesCache(DistinctValuesCache)}.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values of a string column, compared as a starts-with filter, or null to retrieve
+     *               all the values
+     * @param excludeOwnFilter true if the filter of the column is not applied
+     * @return the list of distinct values sorted ascending
+     */
+    public List<Object> getDistinctValues(String columnName, int limit, String prefix, boolean excludeOwnFilter) {
+        return this.grid.getDistinctValues(columnName, limit, prefix, excludeOwnFilter);
+    }
+
+    /**
+     * Counts the items of the grid for each non-null value of the facet columns set with
+     * {@link #withFacets(String...)}. Each column is counted with its own GROUP BY query without its filter,
+     * and the queries of all the columns are combined with UNION ALL in a single statement.
+     *
+     * @return the counts of the values of each column keyed by the column name, sorted by value,
+     *         or null if no facet column is set
+     */
+    public Map<String, Map<Object, Long>> getFacets() {
+        var columnNames = this.grid.getFacetProcessor().getColumnNames();
+        if (columnNames == null || columnNames.isEmpty())
+            return null;
+        return this.grid.getFacets(columnNames);
+    }
+
+    /**
+     * Writes all the filtered, searched and sorted items of the grid to an output stream, without paging.
+     * Only the values of the visible columns are written, and the rows are streamed from the database
+     * in batches of {@link GridExporter#DEFAULT_FETCH_SIZE} rows.
+     *
+     * @param outputStream the output stream where the items are written with UTF-8 encoding
+     * @param format the format of the export
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    public long export(OutputStream outputStream, ExportFormat format) throws IOException {
+        return export(outputStream, format, GridExporter.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Writes all the filtered, searched and sorted items of the grid to an output stream, without paging.
+     * Only the values of the visible columns are written, and the rows are streamed from the database in batches
+     * of the fetch size, if the JDBC driver honors it. See {@link GridExporter} for the driver settings.
+     *
+     * @param outputStream the output stream where the items are written with UTF-8 encoding
+     * @param format the format of the export
+     * @param fetchSize the number of rows fetched from the database in each round trip
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    public long export(OutputStream outputStream, ExportFormat format, int fetchSize) throws IOException {
+        return this.grid.export(outputStream, format, fetchSize);
+    }
+
+    private TotalsDTO getTotals() {
         if (this.grid.getPagingType() == PagingType.VIRTUALIZATION && this.grid.getPager().isNoTotals())
-            totals = null;
-        else
-            totals = this.grid.getTotals();
+            return null;
+        return this.grid.getTotals();
+    }
 
-        return new ItemsDTO<T>(items, totals,
-                new PagerDTO(this.grid.getPagingType(), this.grid.getPager().getPageSize(),
-                        this.grid.getPager().getCurrentPage(), this.grid.getItemsCount(),
-                        this.grid.getPager().getStartIndex(), this.grid.getPager().getVirtualizedCount()));
+    private PagerDTO getPager() {
+        var pager = new PagerDTO(this.grid.getPagingType(), this.grid.getPager().getPageSize(),
+                this.grid.getPager().getCurrentPage(), this.grid.getItemsCount(),
+                this.grid.getPager().getStartIndex(), this.grid.getPager().getVirtualizedCount());
+        // the items not returned by a truncated search engine result are not counted
+        pager.setExact(this.grid.getCountProcessor().isExact() && !this.grid.getPager().isHasNextPage()
+                && !this.grid.getSearchProcessor().isTruncated());
+        pager.setHasNextPage(this.grid.getPager().isHasNextPage());
+        if (this.grid.getPagingType() == PagingType.KEYSET) {
+            pager.setNextCursor(this.grid.getPager().getNextCursor());
+            pager.setPreviousCursor(this.grid.getPager().getPreviousCursor());
+        }
+        return pager;
     }
 }
\ No newline at end of file
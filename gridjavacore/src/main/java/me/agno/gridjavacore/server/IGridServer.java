@@ -1,15 +1,27 @@
 package me.agno.gridjavacore.server;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import me.agno.gridjavacore.IGrid;
 import me.agno.gridjavacore.IGridColumnCollection;
 import me.agno.gridjavacore.SearchOptions;
+import me.agno.gridjavacore.export.ExportFormat;
+import me.agno.gridjavacore.filtering.DistinctValuesCache;
+import me.agno.gridjavacore.filtering.types.ITextPredicateStrategy;
+import me.agno.gridjavacore.grouping.GroupDTO;
+import me.agno.gridjavacore.searching.ISearchEngine;
 import me.agno.gridjavacore.sorting.GridSortMode;
 import me.agno.gridjavacore.utils.ItemsDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The IGridServer interface represents a grid server that provides methods for configuring and retrieving grid data.
@@ -51,6 +63,14 @@ public interface IGridServer<T> {
      */
     IGridServer<T> withPaging(int pageSize, int maxDisplayedItems, String queryStringParameterName);
 
+    /**
+     * Sets the keyset paging options for the grid server instance.
+     *
+     * @param pageSize the number of items to display per page
+     * @return the grid server instance with keyset paging set
+     */
+    IGridServer<T> withKeysetPaging(int pageSize);
+
     /**
      * Returns a grid server instance that supports sorting functionality.
      *
@@ -140,6 +160,205 @@ public interface IGridServer<T> {
      */
     IGridServer<T> setRemoveDiacritics(String methodName);
 
+    /**
+     * Enables the calculation of all the column totals with a single aggregate query.
+     *
+     * @return the grid server instance with fused totals enabled
+     */
+    IGridServer<T> withFusedTotals();
+
+    /**
+     * Sets whether all the column totals are calculated with a single aggregate query.
+     *
+     * @param enable a boolean value indicating whether the totals should be calculated with a single query or not
+     * @return the grid server instance with fused totals enabled or disabled based on the parameter
+     */
+    IGridServer<T> withFusedTotals(boolean enable);
+
+    /**
+     * Enables the calculation of the items count and all the column totals with a single aggregate query.
+     *
+     * @return the grid server instance with fused count enabled
+     */
+    IGridServer<T> withFusedCount();
+
+    /**
+     * Sets whether the items count and all the column totals are calculated with a single aggregate query.
+     * Enabling it also enables the fused totals, but disabling it doesn't change them.
+     *
+     * @param enable a boolean value indicating whether the count and the totals should be calculated with a single query or not
+     * @return the grid server instance with fused count enabled or disabled based on the parameter
+     */
+    IGridServer<T> withFusedCount(boolean enable);
+
+    /**
+     * Enables the retrieval of the items count with a window function in the page query.
+     *
+     * @return the grid server instance with window count enabled
+     */
+    IGridServer<T> withWindowCount();
+
+    /**
+     * Sets whether the items count is retrieved with a window function in the page query.
+     *
+     * @param enable a boolean value indicating whether the count should be retrieved with the page items or not
+     * @return the grid server instance with window count enabled or disabled based on the parameter
+     */
+    IGridServer<T> withWindowCount(boolean enable);
+
+    /**
+     * Enables the calculation of the duplicated filters with a window function.
+     *
+     * @return the grid server instance with window duplicates enabled
+     */
+    IGridServer<T> withWindowDuplicates();
+
+    /**
+     * Sets whether the duplicated filters are calculated with a window function instead of a GROUP BY subquery.
+     *
+     * @param enable a boolean value indicating whether the duplicated filters use a window function or not
+     * @return the grid server instance with window duplicates enabled or disabled based on the parameter
+     */
+    IGridServer<T> withWindowDuplicates(boolean enable);
+
+    /**
+     * Skips the items count query, so only the existence of a next page is checked.
+     *
+     * @return the grid server instance without count
+     */
+    IGridServer<T> withNoCount();
+
+    /**
+     * Sets whether the items count query is skipped, so only the existence of a next page is checked.
+     *
+     * @param enable a boolean value indicating whether the count query should be skipped or not
+     * @return the grid server instance with the count query skipped or not based on the parameter
+     */
+    IGridServer<T> withNoCount(boolean enable);
+
+    /**
+     * Sets the maximum number of items counted.
+     *
+     * @param maxCount the maximum number of items counted, or 0 to count all the items
+     * @return the grid server instance with the updated count
+     */
+    IGridServer<T> withCappedCount(long maxCount);
+
+    /**
+     * Enables the projection of the grid columns in the page query.
+     *
+     * @return the grid server instance with projection enabled
+     */
+    IGridServer<T> withProjection();
+
+    /**
+     * Sets whether the page query selects only the expressions of the grid columns instead of the entities.
+     *
+     * @param enable a boolean value indicating whether the grid columns should be projected or not
+     * @return the grid server instance with projection enabled or disabled based on the parameter
+     */
+    IGridServer<T> withProjection(boolean enable);
+
+    /**
+     * Enables the loading of the to-one associations of the grid columns with the page items.
+     *
+     * @return the grid server instance with the entity graph enabled
+     */
+    IGridServer<T> withFetchGraph();
+
+    /**
+     * Sets whether the to-one associations of the grid columns are loaded with the page items.
+     *
+     * @param enable a boolean value indicating whether the associations should be loaded with the page items or not
+     * @return the grid server instance with the entity graph enabled or disabled based on the parameter
+     */
+    IGridServer<T> withFetchGraph(boolean enable);
+
+    /**
+     * Enables the read-only mode for the grid queries.
+     *
+     * @return the grid server instance with read-only mode enabled
+     */
+    IGridServer<T> withReadOnly();
+
+    /**
+     * Sets whether the grid queries are executed in read-only mode.
+     *
+     * @param enable a boolean value indicating whether the queries should be read-only or not
+     * @return the grid server instance with read-only mode enabled or disabled based on the parameter
+     */
+    IGridServer<T> withReadOnly(boolean enable);
+
+    /**
+     * Enables the creation of the grid queries from their HQL strings.
+     *
+     * @return the grid server instance with HQL queries enabled
+     */
+    IGridServer<T> withHqlQueries();
+
+    /**
+     * Sets whether the grid queries are created from their HQL strings.
+     *
+     * @param enable a boolean value indicating whether the queries should be created from HQL strings or not
+     * @return the grid server instance with HQL queries enabled or disabled based on the parameter
+     */
+    IGridServer<T> withHqlQueries(boolean enable);
+
+    /**
+     * Restricts the grid items to the items of an expanded group.
+     *
+     * @param group the values of the group columns of the expanded group, keyed by the column names
+     * @return the grid server instance with the items restricted to the group
+     */
+    IGridServer<T> withGroup(Map<String, String> group);
+
+    /**
+     * Sets the cache of the distinct values of the columns.
+     *
+     * @param cache the cache used with one set of columns and one server-side predicate, or null to disable the cache
+     * @return the grid server instance with the cache of distinct values
+     */
+    IGridServer<T> withDistinctValuesCache(DistinctValuesCache cache);
+
+    /**
+     * Sets the columns whose facets are returned with the items of the grid.
+     *
+     * @param columnNames the names of the facet columns
+     * @return the grid server instance with the facet columns
+     */
+    IGridServer<T> withFacets(String... columnNames);
+
+    /**
+     * Sets the search engine used to resolve the search value.
+     *
+     * @param searchEngine the search engine, or null to search the searchable columns in the database
+     * @return the grid server instance with the search engine
+     */
+    IGridServer<T> withSearchEngine(ISearchEngine<T> searchEngine);
+
+    /**
+     * Sets the strategy used to compare the text columns for the Hibernate dialect of the database.
+     *
+     * @return the grid server instance with the text predicate strategy of the dialect
+     */
+    IGridServer<T> withTextPredicateStrategy();
+
+    /**
+     * Sets the strategy used to compare the text columns with the filter and search values.
+     *
+     * @param textPredicateStrategy the text predicate strategy
+     * @return the grid server instance with the text predicate strategy
+     */
+    IGridServer<T> withTextPredicateStrategy(ITextPredicateStrategy textPredicateStrategy);
+
+    /**
+     * Sets the function used to estimate the items count.
+     *
+     * @param estimate the function returning the estimated count of items, or null if it is not available
+     * @return the grid server instance with the updated count
+     */
+    IGridServer<T> withEstimatedCount(Function<IGrid<T>, Long> estimate);
+
     /**
      * Sets the predicate for filtering the data in the grid server instance.
      *
@@ -157,12 +376,99 @@ public interface IGridServer<T> {
     IGridServer<T> setOrder(List<Order> orderList);
 
     /**
-     * Retrieves the items to display in the grid.
+     * Retrieves the items to display in the grid. It can't be used if the projection is applied.
      *
      * @return an instance of ItemsDTO containing the items, totals, and pager information
+     * @throws IllegalStateException if the projection is applied
      */
     ItemsDTO<T> getItemsToDisplay();
 
+    /**
+     * Retrieves the projected items to display in the grid. It can only be used if the projection is applied,
+     * that requires pagination or virtualization without a custom pager process function.
+     *
+     * @return an instance of ItemsDTO containing the projected items, totals, and pager information
+     * @throws IllegalStateException if the projection is not applied
+     */
+    ItemsDTO<Map<String, Object>> getProjectedItemsToDisplay();
+
+    /**
+     * Retrieves the groups of the filtered and searched items of the grid for the given group columns.
+     *
+     * @param columnNames the names of the group columns
+     * @return the list of groups sorted by the group key values
+     */
+    List<GroupDTO> getGroups(List<String> columnNames);
+
+    /**
+     * Retrieves the groups of the filtered and searched items of the grid for the given group columns.
+     *
+     * @param columnNames the names of the group columns
+     * @param maxGroups the maximum number of groups to retrieve, or 0 to retrieve all the groups
+     * @return the list of groups sorted by the group key values
+     */
+    List<GroupDTO> getGroups(List<String> columnNames, int maxGroups);
+
+    /**
+     * Retrieves the distinct values of a column for the items of the grid, without applying the filter of the column.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values of a string column, compared as a starts-with filter, or null to retrieve
+     *               all the values
+     * @return the list of distinct values sorted ascending
+     */
+    List<Object> getDistinctValues(String columnName, int limit, String prefix);
+
+    /**
+     * Retrieves the distinct values of a column for the items of the grid.
+     *
+     * @param columnName the name of the column
+     * @param limit the maximum number of values to retrieve, or 0 to retrieve all the values
+     * @param prefix the prefix of the values of a string column, compared as a starts-with filter, or null to retrieve
+     *               all the values
+     * @param excludeOwnFilter true if the filter of the column is not applied
+     * @return the list of distinct values sorted ascending
+     */
+    List<Object> getDistinctValues(String columnName, int limit, String prefix, boolean excludeOwnFilter);
+
+    /**
+     * Counts the items of the grid for each value of the facet columns set with {@link #withFacets(String...)}.
+     *
+     * @return the counts of the values of each column keyed by the column name, or null if no facet column is set
+     */
+    Map<String, Map<Object, Long>> getFacets();
+
+    /**
+     * Writes all the filtered, searched and sorted items of the grid to an output stream, without paging.
+     *
+     * @param outputStream the output stream where the items are written
+     * @param format the format of the export
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    long export(OutputStream outputStream, ExportFormat format) throws IOException;
+
+    /**
+     * Writes all the filtered, searched and sorted items of the grid to an output stream, without paging.
+     *
+     * @param outputStream the output stream where the items are written
+     * @param format the format of the export
+     * @param fetchSize the number of rows fetched from the database in each round trip
+     * @return the number of exported items
+     * @throws IOException if an I/O error occurs writing to the output stream
+     */
+    long export(OutputStream outputStream, ExportFormat format, int fetchSize) throws IOException;
+
+    /**
+     * Retrieves the items to display in the grid, running the count, totals and page queries concurrently.
+     *
+     * @param entityManagerFactory the factory used to create the entity manager of each query
+     * @param executor the executor used to run the queries
+     * @return a future of the ItemsDTO containing the items, totals, and pager information
+     */
+    CompletableFuture<ItemsDTO<T>> getItemsToDisplayAsync(EntityManagerFactory entityManagerFactory, Executor executor);
+
     /**
      * Retrieves the grid instance.
      *
@@ -1,7 +1,9 @@
 package me.agno.gridjavacore.sorting;
 
 import jakarta.persistence.criteria.*;
+import lombok.Getter;
 import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.utils.PathUtils;
 
 import java.util.Collection;
 
@@ -11,7 +13,16 @@ import java.util.Collection;
  */
 public class ThenByColumnOrderer <T, TData> implements IColumnOrderer<T> {
 
+    /**
+     * The column used for the secondary sorting.
+     */
+    @Getter
     private final GridCoreColumn<T, TData> column;
+
+    /**
+     * The direction of the secondary sorting.
+     */
+    @Getter
     private final GridSortDirection initialDirection;
 
     /**
@@ -36,11 +47,11 @@ public class ThenByColumnOrderer <T, TData> implements IColumnOrderer<T> {
     private Order apply(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root) {
 
         if (this.column.getTargetType().equals(Collection.class)) {
-            var subquery = getCollectionCount(cb, cq, root);
+            var count = getCollectionCountExpression(root);
 
             return switch (this.initialDirection) {
-                case ASCENDING -> cb.asc(subquery);
-                case DESCENDING -> cb.desc(subquery);
+                case ASCENDING -> cb.asc(count);
+                case DESCENDING -> cb.desc(count);
                 default -> throw new IllegalArgumentException();
             };
         }
@@ -64,50 +75,36 @@ public class ThenByColumnOrderer <T, TData> implements IColumnOrderer<T> {
      * @return a path object representing the specified expression
      */
     public Path<TData> getPath(Root<T> root, String expression) {
-
-        if(expression  == null || expression.trim().isEmpty())
-            return null;
-
-        String[] names = expression .split("\\.");
-        var path = root.get(names[0]);
-
-        if(names.length > 1) {
-            for(int i = 1; i < names.length; i ++) {
-                path = path.get(names[i]);
-            }
-        }
-
-        return (Path<TData>) path;
+        return PathUtils.getPath(root, expression);
     }
 
     /**
-     * Returns a Path object representing the path to a specific column in a grid.
+     * Returns a correlated subquery counting the subgrid items of the Collection column for each item of a query.
      *
      * @param cb The CriteriaBuilder object to build the search expression.
      * @param cq The criteria query
      * @param root The Root object representing the root entity of the query.
-     * @return A Subquery object representing the path to the Collection column.
+     * @return A Subquery object representing the count of the Collection column, or null if the column
+     * expression is not valid.
+     * @deprecated the subquery is evaluated for each item of the query, use {@link #getCollectionCountExpression(Root)}
+     * instead, that counts the subgrid items once in a derived table joined to the grid root.
      */
+    @Deprecated
     public Subquery<Long> getCollectionCount(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root) {
+        return this.column.getParentGrid().getCollectionCountProcessor().subquery(this.column, cq, root);
+    }
 
-        String[] names = column.getExpression().split("\\.");
-        if(names.length >= 2 && names[names.length -1].equalsIgnoreCase("count")) {
-
-            Subquery<Long> subquery = cq.subquery(Long.class);
-            Root<?> subRoot = subquery.from(column.getSubgridTargetType());
-
-            Predicate[] predicates = new Predicate[column.getSubgridKeys().length];
-            for (int i = 0; i < column.getSubgridKeys().length; i++) {
-                predicates[i] = cb.equal(root.get(column.getSubgridKeys()[i].getKey()),
-                        subRoot.get(column.getSubgridKeys()[i].getValue()));
-            }
-
-            return subquery.select(cb.count(cb.literal(1)))
-                    .where(predicates);
-        }
-        else {
-            return null; //incorrent column name;
-        }
+    /**
+     * Returns the number of subgrid items of the Collection column for each item of the grid query.
+     * The count is calculated by a grouped derived table joined to the grid root, that is shared by the filters,
+     * sort orders, search and totals of the column.
+     *
+     * @param root The Root object representing the root entity of the query.
+     * @return An Expression object representing the count of the Collection column, or null if the column
+     * expression is not valid.
+     */
+    public Expression<Long> getCollectionCountExpression(Root<T> root) {
+        return this.column.getParentGrid().getCollectionCountProcessor().process(this.column, root);
     }
 
     /**
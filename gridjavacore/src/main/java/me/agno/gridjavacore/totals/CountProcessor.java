@@ -2,10 +2,13 @@ package me.agno.gridjavacore.totals;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
+import lombok.Getter;
 import lombok.Setter;
 import me.agno.gridjavacore.IGrid;
+import me.agno.gridjavacore.utils.PathUtils;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSubQuery;
 
@@ -19,13 +22,36 @@ public class CountProcessor<T> {
     private final IGrid<T> grid;
 
     /**
-     * A setter method for the process function.
-     *
-     * @param process the function to be set as the process function
+     * The custom process function used to count the items of the grid.
+     * The filter and search values of the predicate are named parameters of the grid, so the queries of the
+     * function must be created with {@link IGrid#createQuery} or bound with {@link IGrid#bindParameters}.
      */
+    @Getter
     @Setter
     private Function<Predicate, Long> process;
 
+    /**
+     * The maximum number of items counted. If there are more items, the count is reported as not exact
+     * and its value is the maximum. A value of 0 counts all the items.
+     */
+    @Getter
+    @Setter
+    private long maxCount;
+
+    /**
+     * The function used to estimate the items count, for example from the database statistics.
+     * It returns null if an estimation is not available, so the items are counted.
+     */
+    @Getter
+    @Setter
+    private Function<IGrid<T>, Long> estimate;
+
+    /**
+     * Indicates whether the last processed count is exact, or it was capped or estimated.
+     */
+    @Getter
+    private boolean exact = true;
+
     /**
      * A class representing a CountProcessor used to perform counting operations on a grid.
      */
@@ -41,11 +67,35 @@ public class CountProcessor<T> {
      */
     public long process(Predicate predicate) {
 
+        this.exact = true;
+
         if (this.process != null) {
             return this.process.apply(predicate);
         }
 
-        return getCount(this.grid);
+        if (this.estimate != null) {
+            var estimatedCount = this.estimate.apply(this.grid);
+            if (estimatedCount != null) {
+                this.exact = false;
+                return estimatedCount;
+            }
+        }
+
+        var count = getCount(this.grid);
+        if (this.maxCount > 0 && count > this.maxCount) {
+            this.exact = false;
+            return this.maxCount;
+        }
+        return count;
+    }
+
+    /**
+     * Indicates whether the count can be capped or estimated instead of counting all the items.
+     *
+     * @return true if a maximum count or an estimate function is set, false otherwise
+     */
+    public boolean isApproximationEnabled() {
+        return this.maxCount > 0 || this.estimate != null;
     }
 
     private Long getCount(IGrid<T> grid) {
@@ -61,16 +111,21 @@ public class CountProcessor<T> {
         var gridSubQuerySpec = gridQuerySpec.copy(SqmCopyContext.simpleContext());
 
         var totalBuilder = (HibernateCriteriaBuilder) grid.getCriteriaBuilder();
+        if (this.maxCount > 0) {
+            // one more item is counted to know if there are more items than the maximum
+            gridSubQuerySpec.setOrderByClause(null);
+            gridSubQuerySpec.setFetchExpression((SqmExpression<Long>) totalBuilder.literal(this.maxCount + 1));
+        }
         var totalQuery = totalBuilder.createQuery(Long.class);
 
         var subQuery = (SqmSubQuery<Tuple>) totalQuery.subquery(Tuple.class);
         subQuery.setQueryPart(gridSubQuerySpec);
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
-        subQuery.multiselect(subQueryRoot.get(field.getName()).alias("totalColumn"));
+        subQuery.multiselect(PathUtils.getPath(subQueryRoot, field.getName()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         totalQuery.select(totalBuilder.count(totalBuilder.literal(1)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 }
\ No newline at end of file
@@ -2,11 +2,13 @@ package me.agno.gridjavacore.totals;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
+import lombok.Getter;
 import lombok.Setter;
 import me.agno.gridjavacore.IGrid;
 import me.agno.gridjavacore.columns.GridCoreColumn;
 import me.agno.gridjavacore.columns.IGridColumn;
 import me.agno.gridjavacore.pagination.PagingType;
+import me.agno.gridjavacore.utils.PathUtils;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
@@ -15,9 +17,12 @@ import org.hibernate.query.sqm.tree.select.SqmSubQuery;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.*;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -25,15 +30,25 @@ import java.util.function.Consumer;
  */
 public class TotalsProcessor<T> {
 
+    private static final Set<Class<?>> NUMBER_TYPES = Set.of(Byte.class, BigDecimal.class, BigInteger.class,
+            Integer.class, Short.class, Double.class, Long.class, Float.class);
+
+    private static final Set<Class<?>> COMPARABLE_TYPES = Set.of(java.sql.Time.class, java.sql.Date.class,
+            java.sql.Timestamp.class, Date.class, Calendar.class, Instant.class, LocalTime.class, LocalDate.class,
+            LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class, String.class);
+
     private final IGrid<T> grid;
 
     /**
      * This private variable represents a consumer that takes a predicate as input and performs some processing.
      * It is used in the TotalsProcessor class to process the grid's columns and calculate the totals and calculation values for each column.
+     * The filter and search values of the predicate are named parameters of the grid, so the queries of the
+     * consumer must be created with {@link IGrid#createQuery} or bound with {@link IGrid#bindParameters}.
      *
      * @see TotalsProcessor
      * @see Predicate
      */
+    @Getter
     @Setter
     private Consumer<Predicate> process;
 
@@ -61,6 +76,12 @@ public class TotalsProcessor<T> {
         if (this.grid.getPagingType() == PagingType.VIRTUALIZATION && this.grid.getPager().isNoTotals())
             return;
 
+        if (this.grid.isFusedTotals()) {
+            processFused(true, false);
+            processCalculations();
+            return;
+        }
+
         for (IGridColumn<T> gridColumn : this.grid.getColumns().values()) {
             if(gridColumn == null)
                 continue;
@@ -231,20 +252,19 @@ public class TotalsProcessor<T> {
                     gridColumn.setMinValue(new Total(getLeast(expression, this.grid, String.class)));
             }
             else if (type == Collection.class) {
-                var countQuery = getCollectionCount(this.grid.getCriteriaBuilder(), this.grid.getCriteriaQuery(),
-                        this.grid.getRoot(),(GridCoreColumn<T, ?>) gridColumn);
+                var column = (GridCoreColumn<T, ?>) gridColumn;
 
                 if (gridColumn.isSumEnabled())
-                    gridColumn.setSumValue(new Total(getSum(countQuery, this.grid)));
+                    gridColumn.setSumValue(new Total(getSum(column, this.grid)));
 
                 if (gridColumn.isAverageEnabled())
-                    gridColumn.setAverageValue(new Total(getAverage(countQuery, this.grid)));
+                    gridColumn.setAverageValue(new Total(getAverage(column, this.grid)));
 
                 if (gridColumn.isMaxEnabled())
-                    gridColumn.setMaxValue(new Total(getMax(countQuery, this.grid)));
+                    gridColumn.setMaxValue(new Total(getMax(column, this.grid)));
 
                 if (gridColumn.isMinEnabled())
-                    gridColumn.setMinValue(new Total(getMin(countQuery, this.grid)));
+                    gridColumn.setMinValue(new Total(getMin(column, this.grid)));
             }
             else {
                 gridColumn.setSumEnabled(false);
@@ -254,6 +274,35 @@ public class TotalsProcessor<T> {
             }
         }
 
+        processCalculations();
+    }
+
+    /**
+     * Calculates the items count and all the totals of the grid columns with a single aggregate query.
+     * If a custom process function is set for the totals or the count, they are executed separately.
+     *
+     * @param predicate the predicate used to filter the data before calculating the count and the totals
+     * @return the count of items
+     */
+    public long processWithCount(Predicate predicate) {
+
+        var countProcessor = this.grid.getCountProcessor();
+        if (this.process != null || countProcessor.getProcess() != null || countProcessor.isApproximationEnabled()) {
+            long count = countProcessor.process(predicate);
+            process(predicate);
+            return count;
+        }
+
+        boolean withTotals = this.grid.getPagingType() != PagingType.VIRTUALIZATION || ! this.grid.getPager().isNoTotals();
+
+        Long count = processFused(withTotals, true);
+        if (withTotals)
+            processCalculations();
+        return count == null ? 0L : count;
+    }
+
+    private void processCalculations() {
+
         var calculationColumns =  this.grid.getColumns().values().stream()
                 .filter(r -> r.getCalculations() != null && ! r.getCalculations().isEmpty()).toList();
 
@@ -278,20 +327,198 @@ public class TotalsProcessor<T> {
         }
     }
 
-    private <TData> Path<TData> getPath(String expression, Root<?> root, Class<TData> type) {
-        if(expression  == null || expression.trim().isEmpty())
+    /**
+     * Calculates all the enabled totals of all the grid columns with a single aggregate query.
+     * The grid query is used as a derived table that selects every column with totals, and the outer query
+     * returns a tuple with the items count and the sum, average, max and min of each of them.
+     *
+     * @param withTotals true to calculate the column totals
+     * @param withCount true to include the items count in the same query
+     * @return the items count if it was requested, null otherwise
+     */
+    private Long processFused(boolean withTotals, boolean withCount) {
+
+        var gridQuery = (SqmSelectStatement) this.grid.getCriteriaQuery();
+        var gridQuerySpec = gridQuery.getQuerySpec();
+        var gridSubQuerySpec = gridQuerySpec.copy(SqmCopyContext.simpleContext());
+
+        var totalBuilder = (HibernateCriteriaBuilder) this.grid.getCriteriaBuilder();
+        var totalQuery = totalBuilder.createTupleQuery();
+
+        var subQuery = (SqmSubQuery<Tuple>) totalQuery.subquery(Tuple.class);
+        subQuery.setQueryPart(gridSubQuerySpec);
+        Root<?> subQueryRoot = subQuery.getRootList().get(0);
+
+        List<IGridColumn<T>> totalColumns = new ArrayList<>();
+        List<Selection<?>> columnSelections = new ArrayList<>();
+
+        for (IGridColumn<T> gridColumn : this.grid.getColumns().values()) {
+            if(gridColumn == null || ! withTotals)
+                continue;
+
+            var type = gridColumn.getTargetType();
+            if (gridColumn.getTotals() == null || gridColumn.getTotals().getExpression() == null ||
+                    (! NUMBER_TYPES.contains(type) && ! COMPARABLE_TYPES.contains(type) && type != Collection.class)) {
+                gridColumn.setSumEnabled(false);
+                gridColumn.setAverageEnabled(false);
+                gridColumn.setMaxEnabled(false);
+                gridColumn.setMinEnabled(false);
+                continue;
+            }
+
+            if (COMPARABLE_TYPES.contains(type)) {
+                gridColumn.setSumEnabled(false);
+                gridColumn.setAverageEnabled(false);
+            }
+
+            if (! gridColumn.isSumEnabled() && ! gridColumn.isAverageEnabled() &&
+                    ! gridColumn.isMaxEnabled() && ! gridColumn.isMinEnabled())
+                continue;
+
+            String alias = "totalColumn" + totalColumns.size();
+            if (type == Collection.class) {
+                var countQuery = getCollectionCountExpression((Root<T>) subQueryRoot, (GridCoreColumn<T, ?>) gridColumn);
+                if (countQuery == null)
+                    continue;
+                columnSelections.add(countQuery.alias(alias));
+            }
+            else {
+                columnSelections.add(getPath(gridColumn.getTotals().getExpression(), subQueryRoot, type).alias(alias));
+            }
+            totalColumns.add(gridColumn);
+        }
+
+        if (totalColumns.isEmpty() && ! withCount)
             return null;
 
-        String[] names = expression.split("\\.");
-        var path = root.get(names[0]);
+        if (columnSelections.isEmpty()) {
+            var field = this.grid.getColumns().values().stream()
+                    .filter(r -> ! r.getName().isEmpty())
+                    .findFirst().orElse(null);
+            if(field == null)
+                return 0L;
+            columnSelections.add(getPath(field.getName(), subQueryRoot, Object.class).alias("totalColumn"));
+        }
+
+        subQuery.multiselect(columnSelections.toArray(new Selection<?>[0]));
+
+        totalQuery.from(subQuery).alias("totalItem");
+        Root<?> totalRoot = totalQuery.getRootList().get(0);
+
+        List<Selection<?>> totalSelections = new ArrayList<>();
+        if (withCount)
+            totalSelections.add(totalBuilder.count(totalBuilder.literal(1)));
+        for (int i = 0; i < totalColumns.size(); i++) {
+            var gridColumn = totalColumns.get(i);
+            String alias = "totalColumn" + i;
 
-        if(names.length > 1) {
-            for(int i = 1; i < names.length; i ++) {
-                path = path.get(names[i]);
+            if (COMPARABLE_TYPES.contains(gridColumn.getTargetType())) {
+                if (gridColumn.isMaxEnabled())
+                    totalSelections.add(totalBuilder.greatest(getPath(alias, totalRoot, Comparable.class)));
+                if (gridColumn.isMinEnabled())
+                    totalSelections.add(totalBuilder.least(getPath(alias, totalRoot, Comparable.class)));
+            }
+            else {
+                if (gridColumn.isSumEnabled())
+                    totalSelections.add(totalBuilder.sum(getPath(alias, totalRoot, Number.class)));
+                if (gridColumn.isAverageEnabled())
+                    totalSelections.add(totalBuilder.avg(getPath(alias, totalRoot, Number.class)));
+                if (gridColumn.isMaxEnabled())
+                    totalSelections.add(totalBuilder.max(getPath(alias, totalRoot, Number.class)));
+                if (gridColumn.isMinEnabled())
+                    totalSelections.add(totalBuilder.min(getPath(alias, totalRoot, Number.class)));
             }
         }
 
-        return (Path<TData>) path;
+        totalQuery.multiselect(totalSelections);
+        Tuple result = this.grid.createQuery(totalQuery).getSingleResult();
+
+        int index = withCount ? 1 : 0;
+        for (IGridColumn<T> gridColumn : totalColumns) {
+            var type = gridColumn.getTargetType();
+
+            if (COMPARABLE_TYPES.contains(type)) {
+                if (gridColumn.isMaxEnabled())
+                    gridColumn.setMaxValue(getTotal(type, result.get(index++)));
+                if (gridColumn.isMinEnabled())
+                    gridColumn.setMinValue(getTotal(type, result.get(index++)));
+            }
+            else {
+                if (gridColumn.isSumEnabled())
+                    gridColumn.setSumValue(new Total((Number) result.get(index++)));
+                if (gridColumn.isAverageEnabled())
+                    gridColumn.setAverageValue(new Total((Number) result.get(index++)));
+                if (gridColumn.isMaxEnabled())
+                    gridColumn.setMaxValue(new Total((Number) result.get(index++)));
+                if (gridColumn.isMinEnabled())
+                    gridColumn.setMinValue(new Total((Number) result.get(index++)));
+            }
+        }
+
+        return withCount ? (Long) result.get(0) : null;
+    }
+
+    /**
+     * Determines whether the totals of a column type are calculated with the sum, average, max and min functions.
+     *
+     * @param type the target type of the column
+     * @return true if the type is a number type, false otherwise
+     */
+    public static boolean isNumberType(Class<?> type) {
+        return NUMBER_TYPES.contains(type);
+    }
+
+    /**
+     * Determines whether the totals of a column type are only calculated with the greatest and least functions.
+     *
+     * @param type the target type of the column
+     * @return true if the type is a comparable type, false otherwise
+     */
+    public static boolean isComparableType(Class<?> type) {
+        return COMPARABLE_TYPES.contains(type);
+    }
+
+    /**
+     * Creates the Total object of an aggregated value of a column.
+     *
+     * @param type the target type of the column
+     * @param value the aggregated value
+     * @return the Total object containing the value
+     */
+    public static Total getTotal(Class<?> type, Object value) {
+
+        if (type == java.sql.Time.class)
+            return new Total((java.sql.Time) value);
+        else if (type == java.sql.Date.class)
+            return new Total((java.sql.Date) value);
+        else if (type == java.sql.Timestamp.class)
+            return new Total((java.sql.Timestamp) value);
+        else if (type == Date.class)
+            return new Total((Date) value);
+        else if (type == Calendar.class)
+            return new Total((Calendar) value);
+        else if (type == Instant.class)
+            return new Total((Instant) value);
+        else if (type == LocalTime.class)
+            return new Total((LocalTime) value);
+        else if (type == LocalDate.class)
+            return new Total((LocalDate) value);
+        else if (type == LocalDateTime.class)
+            return new Total((LocalDateTime) value);
+        else if (type == OffsetTime.class)
+            return new Total((OffsetTime) value);
+        else if (type == OffsetDateTime.class)
+            return new Total((OffsetDateTime) value);
+        else if (type == ZonedDateTime.class)
+            return new Total((ZonedDateTime) value);
+        else if (type == String.class)
+            return new Total((String) value);
+        else
+            return new Total((Number) value);
+    }
+
+    private <TData> Path<TData> getPath(String expression, Root<?> root, Class<TData> type) {
+        return PathUtils.getPath(root, expression);
     }
 
     private Number getSum(String expression, IGrid<T> grid) {
@@ -308,11 +535,11 @@ public class TotalsProcessor<T> {
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
         subQuery.multiselect(getPath(expression, subQueryRoot, grid.getTargetType()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.sum(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
     private Number getAverage(String expression, IGrid<T> grid) {
@@ -329,11 +556,11 @@ public class TotalsProcessor<T> {
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
         subQuery.multiselect(getPath(expression, subQueryRoot, grid.getTargetType()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.avg(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
     private Number getMax(String expression, IGrid<T> grid) {
@@ -350,11 +577,11 @@ public class TotalsProcessor<T> {
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
         subQuery.multiselect(getPath(expression, subQueryRoot, grid.getTargetType()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.max(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
     private Number getMin(String expression, IGrid<T> grid) {
@@ -371,11 +598,11 @@ public class TotalsProcessor<T> {
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
         subQuery.multiselect(getPath(expression, subQueryRoot, grid.getTargetType()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.min(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
     private <TData extends Comparable<? super TData>> TData getGreatest(String expression, IGrid<T> grid, Class<TData> type) {
@@ -392,11 +619,11 @@ public class TotalsProcessor<T> {
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
         subQuery.multiselect(getPath(expression, subQueryRoot, grid.getTargetType()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<TData> totalRoot = (Root<TData>)totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.greatest(getPath("totalColumn", totalRoot, type)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
     private <TData extends Comparable<? super TData>> TData getLeast(String expression, IGrid<T> grid, Class<TData> type) {
@@ -413,46 +640,48 @@ public class TotalsProcessor<T> {
         Root<?> subQueryRoot = subQuery.getRootList().get(0);
         subQuery.multiselect(getPath(expression, subQueryRoot, grid.getTargetType()).alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<TData> totalRoot = (Root<TData>)totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.least(getPath("totalColumn", totalRoot, type)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
 
     /**
-     * Returns a Path object representing the path to a specific column in a grid.
+     * Returns a correlated subquery counting the subgrid items of the Collection column for each item of a query.
      *
      * @param cb The CriteriaBuilder object to build the search expression.
      * @param cq The criteria query
      * @param root The Root object representing the root entity of the query.
-     * @return A Subquery object representing the path to the Collection column.
+     * @param column The Collection column.
+     * @return A Subquery object representing the count of the Collection column, or null if the column
+     * expression is not valid.
+     * @deprecated the subquery is evaluated for each item of the query, use
+     * {@link #getCollectionCountExpression(Root, GridCoreColumn)} instead, that counts the subgrid items once
+     * in a derived table joined to the root.
      */
+    @Deprecated
     public Subquery<Long> getCollectionCount(CriteriaBuilder cb, CriteriaQuery<T> cq, Root<T> root,
                                              GridCoreColumn<T, ?> column) {
+        return column.getParentGrid().getCollectionCountProcessor().subquery(column, cq, root);
+    }
 
-        String[] names = column.getExpression().split("\\.");
-        if(names.length >= 2 && names[names.length -1].equalsIgnoreCase("count")) {
-
-            Subquery<Long> subquery = cq.subquery(Long.class);
-            Root<?> subRoot = subquery.from(column.getSubgridTargetType());
-
-            Predicate[] predicates = new Predicate[column.getSubgridKeys().length];
-            for (int i = 0; i < column.getSubgridKeys().length; i++) {
-                predicates[i] = cb.equal(root.get(column.getSubgridKeys()[i].getKey()),
-                        subRoot.get(column.getSubgridKeys()[i].getValue()));
-            }
-
-            return subquery.select(cb.count(cb.literal(1)))
-                    .where(predicates);
-        }
-        else {
-            return null; //incorrent column name;
-        }
+    /**
+     * Returns the number of subgrid items of the Collection column for each item of a copy of the grid query.
+     * The count is calculated by a grouped derived table joined to the root of the copy, that reuses the join
+     * added by the filters, sort orders or search of the column to the grid query, if any.
+     *
+     * @param root The Root object representing the root entity of the copy of the grid query.
+     * @param column The Collection column.
+     * @return An Expression object representing the count of the Collection column, or null if the column
+     * expression is not valid.
+     */
+    public Expression<Long> getCollectionCountExpression(Root<T> root, GridCoreColumn<T, ?> column) {
+        return column.getParentGrid().getCollectionCountProcessor().process(column, root);
     }
 
-    private Number getSum(Subquery<Long> countQuery, IGrid<T> grid) {
+    private Number getSum(GridCoreColumn<T, ?> column, IGrid<T> grid) {
 
         var gridQuery = (SqmSelectStatement) grid.getCriteriaQuery();
         var gridQuerySpec = gridQuery.getQuerySpec();
@@ -463,16 +692,17 @@ public class TotalsProcessor<T> {
 
         var subQuery = (SqmSubQuery<Tuple>) totalQuery.subquery(Tuple.class);
         subQuery.setQueryPart(gridSubQuerySpec);
+        var countQuery = getCollectionCountExpression((Root<T>) subQuery.getRootList().get(0), column);
         subQuery.multiselect(countQuery.alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.sum(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
-    private Number getAverage(Subquery<Long> countQuery, IGrid<T> grid) {
+    private Number getAverage(GridCoreColumn<T, ?> column, IGrid<T> grid) {
 
         var gridQuery = (SqmSelectStatement) grid.getCriteriaQuery();
         var gridQuerySpec = gridQuery.getQuerySpec();
@@ -483,16 +713,17 @@ public class TotalsProcessor<T> {
 
         var subQuery = (SqmSubQuery<Tuple>) totalQuery.subquery(Tuple.class);
         subQuery.setQueryPart(gridSubQuerySpec);
+        var countQuery = getCollectionCountExpression((Root<T>) subQuery.getRootList().get(0), column);
         subQuery.multiselect(countQuery.alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.avg(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
-    private Number getMax(Subquery<Long> countQuery, IGrid<T> grid) {
+    private Number getMax(GridCoreColumn<T, ?> column, IGrid<T> grid) {
 
         var gridQuery = (SqmSelectStatement) grid.getCriteriaQuery();
         var gridQuerySpec = gridQuery.getQuerySpec();
@@ -503,16 +734,17 @@ public class TotalsProcessor<T> {
 
         var subQuery = (SqmSubQuery<Tuple>) totalQuery.subquery(Tuple.class);
         subQuery.setQueryPart(gridSubQuerySpec);
+        var countQuery = getCollectionCountExpression((Root<T>) subQuery.getRootList().get(0), column);
         subQuery.multiselect(countQuery.alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.max(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 
-    private Number getMin(Subquery<Long> countQuery, IGrid<T> grid) {
+    private Number getMin(GridCoreColumn<T, ?> column, IGrid<T> grid) {
 
         var gridQuery = (SqmSelectStatement) grid.getCriteriaQuery();
         var gridQuerySpec = gridQuery.getQuerySpec();
@@ -523,12 +755,13 @@ public class TotalsProcessor<T> {
 
         var subQuery = (SqmSubQuery<Tuple>) totalQuery.subquery(Tuple.class);
         subQuery.setQueryPart(gridSubQuerySpec);
+        var countQuery = getCollectionCountExpression((Root<T>) subQuery.getRootList().get(0), column);
         subQuery.multiselect(countQuery.alias("totalColumn"));
 
-        totalQuery.from(subQuery);
+        totalQuery.from(subQuery).alias("totalItem");
         Root<?> totalRoot = totalQuery.getRootList().get(0);
         totalQuery.select(totalBuilder.min(getPath("totalColumn", totalRoot, Number.class)));
 
-        return grid.getEntityManager().createQuery(totalQuery).getSingleResult();
+        return grid.createQuery(totalQuery).getSingleResult();
     }
 }
\ No newline at end of file
@@ -50,7 +50,9 @@ public class DateTimeUtils {
         try {
             var date = getLocalDateTime(value);
             Calendar cal = Calendar.getInstance();
+            cal.clear();
             cal.set(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth(), date.getHour(), date.getMinute(), date.getSecond());
+            cal.set(Calendar.MILLISECOND, date.getNano() / 1_000_000);
             return cal;
         }
         catch (Exception e) {
@@ -0,0 +1,25 @@
+package me.agno.gridjavacore.utils;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+
+/**
+ * The DiacriticsUtils class removes the diacritics of the filter and search values in Java, so they can be compared
+ * with the companion attributes of the columns that contain their text without diacritics.
+ */
+public class DiacriticsUtils {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Removes the diacritics of a text, decomposing its characters and removing their combining marks.
+     *
+     * @param value the text
+     * @return the text without diacritics, or null if the text is null
+     */
+    public static String removeDiacritics(String value) {
+        if (value == null)
+            return null;
+        return MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
@@ -8,6 +8,7 @@ import me.agno.gridjavacore.pagination.PagerDTO;
 import me.agno.gridjavacore.totals.TotalsDTO;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a data transfer object (DTO) that holds a list of items, totals, and pager information for a grid.
@@ -34,4 +35,21 @@ public class ItemsDTO<T> {
      * Represents a Data Transfer Object for a pager used in pagination or virtualization.
      */
     public PagerDTO pager;
+
+    /**
+     * The counts of the items for each value of the facet columns, keyed by the column name,
+     * or null if no facet is requested.
+     */
+    public Map<String, Map<Object, Long>> facets;
+
+    /**
+     * Constructs an ItemsDTO object without facets.
+     *
+     * @param items the items of the grid
+     * @param totals the totals of the grid
+     * @param pager the pager information of the grid
+     */
+    public ItemsDTO(List<T> items, TotalsDTO totals, PagerDTO pager) {
+        this(items, totals, pager, null);
+    }
 }
@@ -0,0 +1,121 @@
+package me.agno.gridjavacore.utils;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+/**
+ * Resolves the dot-separated column expressions of a grid to criteria paths.
+ * The to-one associations navigated by an expression are resolved with explicit joins, and the joins already
+ * added to a root are reused, so the filters, searches, orders and totals of a grid share one join per association.
+ * The joins are part of the query, so they are also shared by the count and totals queries copied from it.
+ */
+public class PathUtils {
+
+    /**
+     * Retrieves the path of an expression, resolving the to-one associations with inner joins.
+     * Inner joins return the same rows as the implicit joins of the path navigation.
+     *
+     * @param from the root or join from which the expression starts
+     * @param expression the dot-separated chain of property names
+     * @return the path representing the expression, or null if the expression is empty
+     */
+    public static <TData> Path<TData> getPath(From<?, ?> from, String expression) {
+        return getPath(from, expression, JoinType.INNER);
+    }
+
+    /**
+     * Retrieves the path of an expression, resolving the to-one associations with joins of the given type.
+     * An existing join of the association is reused whatever its type.
+     *
+     * @param from the root or join from which the expression starts
+     * @param expression the dot-separated chain of property names
+     * @param joinType the type of the joins added for the associations
+     * @return the path representing the expression, or null if the expression is empty
+     */
+    public static <TData> Path<TData> getPath(From<?, ?> from, String expression, JoinType joinType) {
+
+        if(expression == null || expression.trim().isEmpty())
+            return null;
+
+        String[] names = expression.split("\\.");
+
+        int i = 0;
+        for (; i < names.length - 1; i++) {
+            var join = getJoin(from, names[i], joinType);
+            if (join == null)
+                break; //not a to-one association
+            from = join;
+        }
+
+        Path<?> path = from.get(names[i]);
+        for (i++; i < names.length; i++) {
+            path = path.get(names[i]);
+        }
+
+        return (Path<TData>) path;
+    }
+
+    /**
+     * Retrieves the identifier attribute of the entity of a root.
+     *
+     * @param root the root of the entity
+     * @return the identifier attribute, or null if the entity doesn't have a single identifier attribute
+     */
+    public static SingularAttribute<?, ?> getIdAttribute(Root<?> root) {
+
+        var entityType = root.getModel();
+        if (!entityType.hasSingleIdAttribute())
+            return null;
+
+        return entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Join<?, ?> getJoin(From<?, ?> from, String name, JoinType joinType) {
+
+        for (var join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(name) && join.getOn() == null)
+                return join;
+        }
+
+        var type = getManagedType(from);
+        if (type == null)
+            return null;
+
+        Attribute<?, ?> attribute;
+        try {
+            attribute = type.getAttribute(name);
+        }
+        catch (IllegalArgumentException e) {
+            return null; //not an attribute of the type
+        }
+
+        if (!attribute.isAssociation() || attribute.isCollection())
+            return null;
+
+        var join = from.join(name, joinType);
+        if (from.getAlias() != null)
+            join.alias(from.getAlias() + "_" + name); //fixed aliases keep the HQL string of the query stable
+        return join;
+    }
+
+    private static ManagedType<?> getManagedType(From<?, ?> from) {
+
+        if (from instanceof Root<?> root)
+            return root.getModel();
+
+        if (from instanceof Join<?, ?> join && join.getAttribute() instanceof SingularAttribute<?, ?> attribute
+                && attribute.getType() instanceof ManagedType<?> type)
+            return type;
+
+        return null;
+    }
+}
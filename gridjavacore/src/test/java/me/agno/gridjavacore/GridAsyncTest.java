@@ -0,0 +1,119 @@
+package me.agno.gridjavacore;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.server.IGridServer;
+import me.agno.gridjavacore.utils.ItemsDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridAsyncTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class).sum(true);
+        c.add("freight", BigDecimal.class).max(true);
+        c.add("customer.companyName", String.class);
+    };
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void createExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    void asyncItemsAreTheSyncItems() {
+        for (UnaryOperator<IGridServer<Order>> options : List.<UnaryOperator<IGridServer<Order>>>of(
+                server -> server, IGridServer::withWindowCount, server -> server.withKeysetPaging(10))) {
+            var sync = getItems(options, false);
+            var async = getItems(options, true);
+
+            assertEquals(getOrderIDs(sync), getOrderIDs(async));
+            assertEquals(sync.pager.getItemsCount(), async.pager.getItemsCount());
+            assertEquals(sync.pager.getCurrentPage(), async.pager.getCurrentPage());
+            assertEquals(0, sync.totals.getSum().get("orderID").getNumber().get()
+                    .compareTo(async.totals.getSum().get("orderID").getNumber().get()));
+            assertEquals(0, sync.totals.getMax().get("freight").getNumber().get()
+                    .compareTo(async.totals.getMax().get("freight").getNumber().get()));
+
+            // the associations of the columns are loaded before the entity managers are closed
+            for (var order : async.items)
+                assertTrue(order.getCustomer().getCompanyName().startsWith("Company_"));
+        }
+    }
+
+    @Test
+    void failedQueriesRestoreTheGridOrder() {
+        var failingFactory = (EntityManagerFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { EntityManagerFactory.class }, (proxy, method, args) -> {
+                    throw new IllegalStateException("database unavailable");
+                });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = createServer(em, UnaryOperator.identity());
+            var future = server.getItemsToDisplayAsync(failingFactory, executor);
+            assertThrows(CompletionException.class, future::join);
+
+            assertFalse(server.getGrid().getCriteriaQuery().getOrderList().isEmpty());
+            var items = server.getItemsToDisplay();
+            assertEquals(getOrderIDs(getItems(UnaryOperator.identity(), false)), getOrderIDs(items));
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private ItemsDTO<Order> getItems(UnaryOperator<IGridServer<Order>> options, boolean async) {
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = createServer(em, options);
+            return async ? server.getItemsToDisplayAsync(TestDatabase.getEntityManagerFactory(), executor).join()
+                    : server.getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private IGridServer<Order> createServer(EntityManager em,
+                                            UnaryOperator<IGridServer<Order>> options) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "freight__5__1" });
+        query.put("grid-column", new String[] { "freight" });
+        query.put("grid-dir", new String[] { "1" });
+        query.put("grid-page", new String[] { "2" });
+        return options.apply(new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                .filterable()
+                .sortable());
+    }
+
+    private List<Integer> getOrderIDs(ItemsDTO<Order> items) {
+        return items.items.stream().map(Order::getOrderID).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package me.agno.gridjavacore;
+
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridHqlQueriesTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+        c.add("freight", BigDecimal.class).sum(true);
+        c.add("customer.country", String.class);
+    };
+
+    @Test
+    void sameGridShapeRendersTheSameHql() {
+        var first = getHql("Ship 2", "0.5", "Spain");
+        var second = getHql("Ship 3", "1", "France");
+
+        assertNotEquals(first.orderIDs(), second.orderIDs());
+        assertEquals(first.hql(), second.hql());
+        // the query created by the grid is the HQL query, not the criteria query it falls back to
+        assertEquals(first.hql(), first.queryString());
+        assertEquals(second.hql(), second.queryString());
+    }
+
+    @Test
+    void criteriaQueriesAreUsedWhenHqlQueriesAreDisabled() {
+        var result = getHql("Ship 2", "0.5", "Spain", false);
+
+        assertNotEquals(result.hql(), result.queryString());
+    }
+
+    @Test
+    void sameGridShapeHitsTheQueryPlanCache() {
+        var statistics = TestDatabase.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            getHql("Ship 2", "0.5", "Spain");
+            statistics.clear();
+
+            var result = getHql("Ship 3", "1", "France");
+            var queryStatistics = statistics.getQueryStatistics(result.hql());
+            assertEquals(0, queryStatistics.getPlanCacheMissCount());
+            assertTrue(queryStatistics.getPlanCacheHitCount() > 0);
+        }
+        finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private record Result(List<Integer> orderIDs, String hql, String queryString) { }
+
+    private Result getHql(String shipName, String freight, String country) {
+        return getHql(shipName, freight, country, true);
+    }
+
+    private Result getHql(String shipName, String freight, String country, boolean hqlQueries) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "shipName__1__" + shipName, "freight__5__" + freight });
+        query.put("grid-search", new String[] { country });
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "1" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable()
+                    .filterable()
+                    .searchable()
+                    .withHqlQueries(hqlQueries);
+            var orderIDs = server.getItemsToDisplay().items.stream().map(Order::getOrderID).toList();
+
+            var grid = server.getGrid();
+            var criteriaQuery = grid.getCriteriaQuery();
+            String hql = ((SqmSelectStatement<Order>) criteriaQuery).toHqlString();
+            String queryString = grid.createQuery(criteriaQuery).unwrap(Query.class).getQueryString();
+            return new Result(orderIDs, hql, queryString);
+        }
+        finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package me.agno.gridjavacore;
+
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridReadOnlyTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+    };
+
+    @Test
+    void pageItemsAreReadOnly() {
+        var em = TestDatabase.createEntityManager();
+        try {
+            var items = new GridServer<>(em, Order.class, new HashMap<>(), COLUMNS, 10)
+                    .withReadOnly()
+                    .getItemsToDisplay();
+
+            var session = em.unwrap(Session.class);
+            assertEquals(10, items.items.size());
+            for (var order : items.items)
+                assertTrue(session.isReadOnly(order));
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @Test
+    void pendingChangesAreNotFlushedBeforeGridQueries() {
+        assertEquals(0, getItemsAfterChange(true));
+        // the default mode flushes the change before the grid queries, so they find the changed order
+        assertEquals(1, getItemsAfterChange(false));
+    }
+
+    private long getItemsAfterChange(boolean readOnly) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "shipName__1__Changed" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.find(Order.class, 1).setShipName("Changed");
+
+            TestDatabase.clearStatements();
+            var items = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .filterable()
+                    .withReadOnly(readOnly)
+                    .getItemsToDisplay();
+
+            boolean flushed = TestDatabase.getStatements().stream()
+                    .anyMatch(r -> r.toLowerCase().startsWith("update orders"));
+            assertEquals(!readOnly, flushed);
+            return items.pager.getItemsCount();
+        }
+        finally {
+            em.getTransaction().rollback();
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package me.agno.gridjavacore;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.model.Customer;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.model.OrderDetail;
+import me.agno.gridjavacore.model.OrderStatus;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-memory H2 database shared by the tests. It contains {@link #CUSTOMERS} customers, {@link #ORDERS} orders
+ * and a variable number of details per order, and it records the SQL statements sent to the database.
+ */
+public final class TestDatabase {
+
+    public static final int CUSTOMERS = 5;
+
+    public static final int ORDERS = 60;
+
+    public static final String[] COUNTRIES = { "Spain", "France", "Germany" };
+
+    private static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    private TestDatabase() { }
+
+    /**
+     * Statement inspector recording the SQL of every statement.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    public static synchronized EntityManagerFactory getEntityManagerFactory() {
+        if (entityManagerFactory == null) {
+            entityManagerFactory = createEntityManagerFactory("grid");
+            seed(entityManagerFactory);
+        }
+        return entityManagerFactory;
+    }
+
+    /**
+     * Creates a factory of an empty in-memory database with the tables of the test model, for the tests that
+     * need their own data. Its statements are recorded as the statements of the shared database.
+     *
+     * @param name the name of the database
+     * @return the entity manager factory, that must be closed by the test
+     */
+    public static EntityManagerFactory createEntityManagerFactory(String name) {
+        return new Configuration()
+                .addAnnotatedClass(Customer.class)
+                .addAnnotatedClass(Order.class)
+                .addAnnotatedClass(OrderDetail.class)
+                .setProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.session_factory.statement_inspector",
+                        RecordingStatementInspector.class.getName())
+                .buildSessionFactory();
+    }
+
+    public static EntityManager createEntityManager() {
+        return getEntityManagerFactory().createEntityManager();
+    }
+
+    public static void clearStatements() {
+        statements.clear();
+    }
+
+    public static List<String> getStatements() {
+        synchronized (statements) {
+            return new ArrayList<>(statements);
+        }
+    }
+
+    private static void seed(EntityManagerFactory entityManagerFactory) {
+        var em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 1; i <= CUSTOMERS; i++) {
+            var customer = new Customer();
+            customer.setCustomerID("C" + i);
+            customer.setCompanyName("Company_" + i + (i % 2 == 0 ? "%" : ""));
+            customer.setCountry(COUNTRIES[i % COUNTRIES.length]);
+            em.persist(customer);
+            customers.add(customer);
+        }
+
+        int detailID = 1;
+        for (int i = 1; i <= ORDERS; i++) {
+            var order = new Order();
+            order.setOrderID(i);
+            order.setOrderDate(LocalDateTime.of(2024, 1, 1, 10, 30, 15, 123_000_000).plusDays(i % 20)
+                    .plusNanos(i * 1_000_000L));
+            order.setFreight(BigDecimal.valueOf(i * 10L + i % 7, 2));
+            order.setShipName("Ship " + (i % 10));
+            order.setStatus(OrderStatus.values()[i % OrderStatus.values().length]);
+            order.setShipped(i % 2 == 0);
+            order.setTrackingID(new UUID(0, i));
+            order.setCustomer(customers.get(i % CUSTOMERS));
+            em.persist(order);
+
+            for (int j = 0; j < i % 4; j++) {
+                var detail = new OrderDetail();
+                detail.setOrderDetailID(detailID++);
+                detail.setOrderID(i);
+                detail.setQuantity(j + 1);
+                em.persist(detail);
+            }
+        }
+
+        em.getTransaction().commit();
+        em.close();
+    }
+}
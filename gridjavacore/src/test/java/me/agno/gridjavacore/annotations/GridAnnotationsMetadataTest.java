@@ -0,0 +1,98 @@
+package me.agno.gridjavacore.annotations;
+
+import jakarta.persistence.Column;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.pagination.PagingType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridAnnotationsMetadataTest {
+
+    @GridTable(pagingType = PagingType.PAGINATION, pageSize = 20)
+    static class Item {
+
+        @Column
+        private String first;
+
+        @Column
+        @GridColumn(position = 3, hidden = true, type = String.class)
+        private String third;
+
+        @Column
+        private String second;
+
+        @Column
+        @GridColumn(position = 1, key = true, type = Integer.class)
+        private Integer id;
+
+        @Column
+        @GridColumn(position = 2, type = String.class)
+        private String name;
+
+        @GridColumn(position = 0, type = String.class)
+        private String notInTable;
+
+        @NotMappedColumn
+        private String calculated;
+    }
+
+    @Test
+    void tableColumnsAreSortedByPosition() {
+        var metadata = GridAnnotationsMetadata.of(Item.class);
+
+        // the fields without position are placed after the positioned ones, in their declaration order
+        assertEquals(List.of("id", "name", "third", "first", "second"),
+                metadata.getTableColumns().stream().map(Map.Entry::getKey).toList());
+    }
+
+    @Test
+    void unpositionedTableColumnsHaveNoAnnotation() {
+        var metadata = GridAnnotationsMetadata.of(Item.class);
+
+        for (var entry : metadata.getTableColumns()) {
+            if (entry.getKey().equals("first") || entry.getKey().equals("second"))
+                assertNull(entry.getValue(), entry.getKey());
+            else
+                assertSame(metadata.getColumn(entry.getKey()), entry.getValue(), entry.getKey());
+        }
+    }
+
+    @Test
+    void columnsAreFoundByFieldName() {
+        var metadata = GridAnnotationsMetadata.of(Item.class);
+
+        assertTrue(metadata.getColumn("id").key());
+        assertTrue(metadata.getColumn("third").hidden());
+        assertEquals(0, metadata.getColumn("notInTable").position());
+        assertNull(metadata.getColumn("first"));
+        assertNull(metadata.getColumn("missing"));
+    }
+
+    @Test
+    void notMappedColumnsAreFoundByFieldName() {
+        var metadata = GridAnnotationsMetadata.of(Item.class);
+
+        assertTrue(metadata.isNotMapped("calculated"));
+        assertFalse(metadata.isNotMapped("name"));
+        assertFalse(metadata.isNotMapped("missing"));
+    }
+
+    @Test
+    void tableAnnotationIsRead() {
+        assertEquals(20, GridAnnotationsMetadata.of(Item.class).getTable().pageSize());
+        assertNull(GridAnnotationsMetadata.of(Order.class).getTable());
+    }
+
+    @Test
+    void metadataIsCachedPerClass() {
+        assertSame(GridAnnotationsMetadata.of(Item.class), GridAnnotationsMetadata.of(Item.class));
+    }
+}
@@ -0,0 +1,125 @@
+package me.agno.gridjavacore.columns;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.model.OrderDetail;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.server.IGridServer;
+import me.agno.gridjavacore.sorting.OrderByGridOrderer;
+import me.agno.gridjavacore.utils.ItemsDTO;
+import me.agno.gridjavacore.utils.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionCountProcessorTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("orderDetails.count", Collection.class, "details")
+                .subgrid(OrderDetail.class, new Pair[] { new Pair<>("orderID", "orderID") })
+                .sum(true).max(true);
+    };
+
+    // each order i has i % 4 details
+    private static final long DETAILS = 90;
+
+    @Test
+    void gridQueryHasNoJoinWithoutFilterSortOrSearch() {
+        var items = getItems(Map.of(), UnaryOperator.identity());
+
+        assertEquals(TestDatabase.ORDERS, items.pager.getItemsCount());
+        assertEquals(0, countDerivedJoins(getPageStatement()));
+        assertTotals(items, DETAILS, 3);
+    }
+
+    @Test
+    void fusedTotalsAddJoinOnlyToTotalsQuery() {
+        var items = getItems(Map.of(), IGridServer::withFusedTotals);
+
+        assertEquals(0, countDerivedJoins(getPageStatement()));
+        assertTotals(items, DETAILS, 3);
+    }
+
+    @Test
+    void filterSortAndTotalsShareOneJoin() {
+        var items = getItems(Map.of("grid-filter", "details__5__1", "grid-column", "details", "grid-dir", "1"),
+                UnaryOperator.identity());
+
+        // orders with 2 or 3 details
+        assertEquals(30, items.pager.getItemsCount());
+        assertEquals(3, items.items.get(0).getOrderID() % 4);
+        for (var statement : TestDatabase.getStatements())
+            assertTrue(countDerivedJoins(statement) <= 1, statement);
+        assertEquals(1, countDerivedJoins(getPageStatement()));
+        assertTotals(items, 75, 3);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedSubqueryCountsTheSameItems() {
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, new HashMap<>(), COLUMNS, 10);
+            var column = (GridCoreColumn<Order, ?>) server.getGrid().getColumns().get("details");
+            var orderer = (OrderByGridOrderer<Order, ?>) column.getOrderers().get(0);
+
+            var cb = em.getCriteriaBuilder();
+            var cq = cb.createTupleQuery();
+            var root = cq.from(Order.class);
+            var count = orderer.getCollectionCount(cb, (CriteriaQuery) cq, root);
+            cq.multiselect(root.get("orderID"), count);
+
+            var rows = em.createQuery(cq).getResultList();
+            assertEquals(TestDatabase.ORDERS, rows.size());
+            for (var row : rows)
+                assertEquals(row.get(0, Integer.class) % 4, row.get(1, Long.class));
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private void assertTotals(ItemsDTO<Order> items, long sum, long max) {
+        assertEquals(sum, items.totals.getSum().get("details").getNumber().get().longValue());
+        assertEquals(max, items.totals.getMax().get("details").getNumber().get().longValue());
+    }
+
+    private ItemsDTO<Order> getItems(Map<String, String> parameters, UnaryOperator<IGridServer<Order>> options) {
+        Map<String, String[]> query = new HashMap<>();
+        parameters.forEach((key, value) -> query.put(key, new String[] { value }));
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            IGridServer<Order> server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable()
+                    .filterable();
+            server = options.apply(server);
+            TestDatabase.clearStatements();
+            return server.getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    // the page query is the last statement
+    private String getPageStatement() {
+        List<String> statements = TestDatabase.getStatements();
+        return statements.get(statements.size() - 1);
+    }
+
+    private int countDerivedJoins(String statement) {
+        return statement.toLowerCase().split("group by", -1).length - 1;
+    }
+}
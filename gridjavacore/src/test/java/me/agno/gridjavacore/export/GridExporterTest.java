@@ -0,0 +1,136 @@
+package me.agno.gridjavacore.export;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Customer;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.model.OrderDetail;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.utils.Pair;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GridExporterTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+        c.add("freight", BigDecimal.class);
+        c.add("customer.companyName", String.class);
+        c.add("customer.country", String.class, true);
+        c.add("orderDetails.count", Collection.class, "details")
+                .subgrid(OrderDetail.class, new Pair[] { new Pair<>("orderID", "orderID") });
+    };
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void createData() {
+        entityManagerFactory = TestDatabase.createEntityManagerFactory("export");
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            var quoted = createCustomer("C1", "Smith, \"Bob\" & Co");
+            var escaped = createCustomer("C2", "Line\nBreak\ttab\\slash\u0001");
+            em.persist(quoted);
+            em.persist(escaped);
+            em.persist(createOrder(1, "first", quoted));
+            em.persist(createOrder(2, "a,b", quoted));
+            em.persist(createOrder(3, "q\"uote", escaped));
+            em.persist(createOrder(4, null, null));
+            em.getTransaction().commit();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void csvValuesAreQuoted() throws IOException {
+        var csv = export(ExportFormat.CSV, Map.of());
+
+        assertEquals("orderID,shipName,freight,customer.companyName\r\n"
+                + "1,first,1.50,\"Smith, \"\"Bob\"\" & Co\"\r\n"
+                + "2,\"a,b\",2.50,\"Smith, \"\"Bob\"\" & Co\"\r\n"
+                + "3,\"q\"\"uote\",3.50,\"Line\nBreak\ttab\\slash\u0001\"\r\n"
+                + "4,,4.50,\r\n", csv);
+    }
+
+    @Test
+    void jsonValuesAreEscaped() throws IOException {
+        var json = export(ExportFormat.NDJSON, Map.of());
+
+        assertEquals("{\"orderID\":1,\"shipName\":\"first\",\"freight\":1.50,\"customer.companyName\":\"Smith, \\\"Bob\\\" & Co\"}\n"
+                + "{\"orderID\":2,\"shipName\":\"a,b\",\"freight\":2.50,\"customer.companyName\":\"Smith, \\\"Bob\\\" & Co\"}\n"
+                + "{\"orderID\":3,\"shipName\":\"q\\\"uote\",\"freight\":3.50,\"customer.companyName\":\"Line\\nBreak\\ttab\\\\slash\\u0001\"}\n"
+                + "{\"orderID\":4,\"shipName\":null,\"freight\":4.50,\"customer.companyName\":null}\n", json);
+    }
+
+    @Test
+    void filterAndSortOfTheGridAreApplied() throws IOException {
+        var csv = export(ExportFormat.CSV, Map.of("grid-filter", "orderID__5__1",
+                "grid-column", "orderID", "grid-dir", "1"));
+
+        assertEquals("orderID,shipName,freight,customer.companyName\r\n"
+                + "4,,4.50,\r\n"
+                + "3,\"q\"\"uote\",3.50,\"Line\nBreak\ttab\\slash\u0001\"\r\n"
+                + "2,\"a,b\",2.50,\"Smith, \"\"Bob\"\" & Co\"\r\n", csv);
+    }
+
+    private String export(ExportFormat format, Map<String, String> parameters) throws IOException {
+        Map<String, String[]> query = new HashMap<>();
+        parameters.forEach((key, value) -> query.put(key, new String[] { value }));
+        if (!query.containsKey("grid-column")) {
+            query.put("grid-column", new String[] { "orderID" });
+            query.put("grid-dir", new String[] { "0" });
+        }
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            var output = new ByteArrayOutputStream();
+            new GridServer<>(em, Order.class, query, COLUMNS)
+                    .sortable()
+                    .filterable()
+                    .export(output, format, 2);
+            return output.toString(StandardCharsets.UTF_8);
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private static Customer createCustomer(String customerID, String companyName) {
+        var customer = new Customer();
+        customer.setCustomerID(customerID);
+        customer.setCompanyName(companyName);
+        return customer;
+    }
+
+    private static Order createOrder(int orderID, String shipName, Customer customer) {
+        var order = new Order();
+        order.setOrderID(orderID);
+        order.setShipName(shipName);
+        order.setFreight(BigDecimal.valueOf(orderID * 100L + 50, 2));
+        order.setCustomer(customer);
+        return order;
+    }
+}
@@ -0,0 +1,57 @@
+package me.agno.gridjavacore.filtering;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.filtering.types.TextPredicateStrategy;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class DistinctValuesProcessorTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("customer.companyName", String.class);
+    };
+
+    @Test
+    void prefixUsesTextPredicateStrategy() {
+        assertEquals(List.of("Company_2%"), getValues(TextPredicateStrategy.UPPER, "company_2"));
+        assertEquals(List.of(), getValues(TextPredicateStrategy.COLLATION, "company_2"));
+        assertEquals(List.of("Company_2%"), getValues(TextPredicateStrategy.COLLATION, "Company_2"));
+        assertEquals(List.of("Company_2%"), getValues(TextPredicateStrategy.ILIKE, "company_2"));
+
+        for (var statement : TestDatabase.getStatements())
+            assertFalse(statement.toLowerCase().contains("cast("), statement);
+    }
+
+    @Test
+    void prefixPatternCharactersAreComparedLiterally() {
+        for (var strategy : TextPredicateStrategy.values()) {
+            assertEquals(List.of(), getValues(strategy, "%"), strategy.name());
+            assertEquals(List.of(), getValues(strategy, "Company%"), strategy.name());
+            assertEquals(5, getValues(strategy, "Company_").size(), strategy.name());
+        }
+    }
+
+    private List<Object> getValues(TextPredicateStrategy strategy, String prefix) {
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, new HashMap<>(), COLUMNS, 10)
+                    .filterable()
+                    .withTextPredicateStrategy(strategy);
+            TestDatabase.clearStatements();
+            return server.getDistinctValues("customer.companyName", 0, prefix);
+        }
+        finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.agno.gridjavacore.filtering;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.TestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static me.agno.gridjavacore.filtering.DuplicatedFilterTest.getItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the mean times of the GROUP BY and window function implementations of the duplicated filters on a
+ * generated dataset. The number of orders is set with the {@code benchmark.orders} system property.
+ * The benchmark is excluded from the default build, it is run with the {@code benchmark} profile and the times
+ * are logged with the platform logger.
+ */
+@Tag("benchmark")
+class DuplicatedFilterBenchmarkTest {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 2_000);
+
+    // a quarter of the ship names are used twice, and the rest of them once
+    private static final int SHIP_NAMES = ORDERS * 3 / 4;
+
+    private static final int ITERATIONS = 5;
+
+    private static final System.Logger LOGGER = System.getLogger(DuplicatedFilterBenchmarkTest.class.getName());
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void generateDataset() {
+        entityManagerFactory = TestDatabase.createEntityManagerFactory("duplicatesBenchmark");
+        DuplicatedFilterTest.insertOrders(entityManagerFactory, ORDERS, SHIP_NAMES);
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void isDuplicated() {
+        benchmark("shipName__13__");
+    }
+
+    @Test
+    void isNotDuplicated() {
+        benchmark("shipName__14__");
+    }
+
+    private void benchmark(String filter) {
+        // warm-up
+        var expected = getItems(entityManagerFactory, filter, false);
+        assertEquals(expected, getItems(entityManagerFactory, filter, true));
+
+        long groupBy = 0;
+        long window = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            getItems(entityManagerFactory, filter, false);
+            groupBy += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            getItems(entityManagerFactory, filter, true);
+            window += System.nanoTime() - start;
+        }
+
+        LOGGER.log(System.Logger.Level.INFO, String.format("%s on %d orders: GROUP BY %.1f ms, window %.1f ms",
+                filter, ORDERS, groupBy / 1e6 / ITERATIONS, window / 1e6 / ITERATIONS));
+    }
+}
@@ -0,0 +1,94 @@
+package me.agno.gridjavacore.filtering;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the GROUP BY and window function implementations of the duplicated filters return the same items
+ * on a generated dataset.
+ */
+class DuplicatedFilterTest {
+
+    private static final int ORDERS = 1_000;
+
+    // the ship names 1 to 250 are used twice, and the rest of them once
+    private static final int SHIP_NAMES = 750;
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+    };
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void generateDataset() {
+        entityManagerFactory = TestDatabase.createEntityManagerFactory("duplicates");
+        insertOrders(entityManagerFactory, ORDERS, SHIP_NAMES);
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void duplicatedImplementationsReturnTheSameItems() {
+        var groupBy = getItems(entityManagerFactory, "shipName__13__", false);
+        var window = getItems(entityManagerFactory, "shipName__13__", true);
+        assertEquals(groupBy, window);
+        assertEquals(2 * (ORDERS - SHIP_NAMES), groupBy.count());
+
+        var notGroupBy = getItems(entityManagerFactory, "shipName__14__", false);
+        var notWindow = getItems(entityManagerFactory, "shipName__14__", true);
+        assertEquals(notGroupBy, notWindow);
+        assertEquals(ORDERS, groupBy.count() + notGroupBy.count());
+    }
+
+    static void insertOrders(EntityManagerFactory entityManagerFactory, int orders, int shipNames) {
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("insert into orders (orderID, shipName) "
+                    + "select x, concat('Ship ', mod(x, " + shipNames + ")) from system_range(1, " + orders + ")")
+                    .executeUpdate();
+            em.getTransaction().commit();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    static Page getItems(EntityManagerFactory entityManagerFactory, String filter, boolean windowDuplicates) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { filter });
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "0" });
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 20)
+                    .filterable()
+                    .withWindowDuplicates(windowDuplicates);
+            var items = server.getItemsToDisplay();
+            return new Page(items.items.stream().map(Order::getOrderID).toList(), items.pager.getItemsCount());
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    record Page(List<Integer> orderIDs, long count) { }
+}
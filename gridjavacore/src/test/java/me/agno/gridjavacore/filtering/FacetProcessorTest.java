@@ -0,0 +1,67 @@
+package me.agno.gridjavacore.filtering;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetProcessorTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+        c.add("customer.country", String.class);
+    };
+
+    @Test
+    void columnsAreCountedWithOneUnionAllStatement() {
+        var facets = getFacets(new HashMap<>());
+
+        // each customer has 12 orders, and only the customer C3 is from Spain
+        assertEquals(Map.of("France", 24L, "Germany", 24L, "Spain", 12L), facets.get("customer.country"));
+        assertEquals(10, facets.get("shipName").size());
+        for (var count : facets.get("shipName").values())
+            assertEquals(6L, count);
+
+        assertEquals(1, TestDatabase.getStatements().size());
+        var statement = TestDatabase.getStatements().get(0).toLowerCase();
+        assertTrue(statement.contains("union all"), statement);
+        assertEquals(2, statement.split("group by", -1).length - 1, statement);
+    }
+
+    @Test
+    void filteredColumnIsCountedWithoutItsOwnFilter() {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "customer.country__1__Spain", "shipName__1__Ship 1" });
+        var facets = getFacets(query);
+
+        // the orders of Ship 1 are the orders of customer C2
+        assertEquals(Map.of("Germany", 6L), facets.get("customer.country"));
+        // the orders of Spain are the orders of customer C3
+        assertEquals(Map.of("Ship 2", 6L, "Ship 7", 6L), facets.get("shipName"));
+        assertEquals(1, TestDatabase.getStatements().size());
+    }
+
+    private Map<String, Map<Object, Long>> getFacets(Map<String, String[]> query) {
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .filterable()
+                    .withFacets("customer.country", "shipName");
+            TestDatabase.clearStatements();
+            return new LinkedHashMap<>(server.getFacets());
+        }
+        finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package me.agno.gridjavacore.filtering;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Customer;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NormalizedColumnTest {
+
+    // the function doesn't exist in the database, so a query calling it fails
+    private static final String REMOVE_DIACRITICS = "remove_diacritics";
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("customer.companyName", String.class).normalized("customer.companyNameNormalized");
+    };
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void createData() {
+        entityManagerFactory = TestDatabase.createEntityManagerFactory("normalized");
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            var customers = List.of(
+                    createCustomer("C1", "Café Olé", "Cafe Ole"),
+                    createCustomer("C2", "Crème Brûlée", "Creme Brulee"),
+                    createCustomer("C3", "Cafe Noir", "Cafe Noir"));
+            for (int i = 0; i < customers.size(); i++) {
+                em.persist(customers.get(i));
+                var order = new Order();
+                order.setOrderID(i + 1);
+                order.setCustomer(customers.get(i));
+                em.persist(order);
+            }
+            em.getTransaction().commit();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void filterComparesTheCompanionAttributeWithTheNormalizedValue() {
+        var orderIDs = getOrderIDs(Map.of("grid-filter", "customer.companyName__2__olé"));
+
+        assertEquals(List.of(1), orderIDs);
+        assertCompanionAttributeIsCompared();
+    }
+
+    @Test
+    void equalsFilterComparesTheCompanionAttributeWithTheNormalizedValue() {
+        var orderIDs = getOrderIDs(Map.of("grid-filter", "customer.companyName__1__Crème Brûlée"));
+
+        assertEquals(List.of(2), orderIDs);
+        assertCompanionAttributeIsCompared();
+    }
+
+    @Test
+    void searchComparesTheCompanionAttributeWithTheNormalizedValue() {
+        var orderIDs = getOrderIDs(Map.of("grid-search", "CAFÉ"));
+
+        assertEquals(List.of(1, 3), orderIDs);
+        assertCompanionAttributeIsCompared();
+    }
+
+    private void assertCompanionAttributeIsCompared() {
+        var statements = TestDatabase.getStatements();
+        assertFalse(statements.isEmpty());
+        for (var statement : statements) {
+            var sql = statement.toLowerCase();
+            assertFalse(sql.contains(REMOVE_DIACRITICS), statement);
+            assertTrue(sql.contains("companynamenormalized"), statement);
+        }
+    }
+
+    private List<Integer> getOrderIDs(Map<String, String> parameters) {
+        Map<String, String[]> query = new HashMap<>();
+        parameters.forEach((key, value) -> query.put(key, new String[] { value }));
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "0" });
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable()
+                    .filterable()
+                    .searchable()
+                    .setRemoveDiacritics(REMOVE_DIACRITICS);
+            TestDatabase.clearStatements();
+            return server.getItemsToDisplay().items.stream().map(Order::getOrderID).toList();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private static Customer createCustomer(String customerID, String companyName, String companyNameNormalized) {
+        var customer = new Customer();
+        customer.setCustomerID(customerID);
+        customer.setCompanyName(companyName);
+        customer.setCompanyNameNormalized(companyNameNormalized);
+        return customer;
+    }
+}
@@ -0,0 +1,99 @@
+package me.agno.gridjavacore.filtering;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.server.IGridServer;
+import me.agno.gridjavacore.utils.ItemsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class QueryParametersTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class).sum(true);
+        c.add("freight", BigDecimal.class).max(true);
+        c.add("shipName", String.class);
+        c.add("customer.companyName", String.class);
+    };
+
+    @Test
+    void statementTextDoesNotDependOnValues() {
+        var first = getItems("freight__5__1", "Company_1", UnaryOperator.identity());
+        var firstStatements = TestDatabase.getStatements();
+
+        var second = getItems("freight__5__2.5", "Ship 3", UnaryOperator.identity());
+        var secondStatements = TestDatabase.getStatements();
+
+        assertNotEquals(first.pager.getItemsCount(), second.pager.getItemsCount());
+        assertEquals(firstStatements, secondStatements);
+        for (var statement : firstStatements) {
+            assertFalse(statement.contains("Company_1") || statement.contains("Ship 3"), statement);
+            assertFalse(statement.contains("2.5") || statement.contains("1.0"), statement);
+        }
+    }
+
+    @Test
+    void customPagerProcessIsBound() {
+        var expected = getItems("freight__5__2.5", "ship", UnaryOperator.identity());
+
+        var items = getItems("freight__5__2.5", "ship", server -> {
+            var grid = server.getGrid();
+            grid.getPagerProcessor().setProcess(query -> grid.getEntityManager().createQuery(query).setMaxResults(10));
+            return server;
+        });
+
+        assertEquals(getOrderIDs(expected), getOrderIDs(items));
+    }
+
+    @Test
+    void customTotalsProcessCanBindParameters() {
+        long[] count = { -1 };
+        var items = getItems("freight__5__2.5", "ship", server -> {
+            var grid = server.getGrid();
+            // the grid query contains the predicate when the totals are processed
+            grid.getTotalsProcessor().setProcess(predicate -> count[0] = grid.bindParameters(
+                    grid.getEntityManager().createQuery(grid.getCriteriaQuery())).getResultList().size());
+            return server;
+        });
+
+        assertEquals(items.pager.getItemsCount(), count[0]);
+    }
+
+    private ItemsDTO<Order> getItems(String filter, String search, UnaryOperator<IGridServer<Order>> options) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { filter });
+        query.put("grid-search", new String[] { search });
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "0" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            IGridServer<Order> server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable()
+                    .filterable()
+                    .searchable(true, true);
+            server = options.apply(server);
+            TestDatabase.clearStatements();
+            return server.getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private List<Integer> getOrderIDs(ItemsDTO<Order> items) {
+        return items.items.stream().map(Order::getOrderID).toList();
+    }
+}
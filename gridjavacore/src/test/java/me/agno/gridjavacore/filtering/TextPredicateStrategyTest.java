@@ -0,0 +1,91 @@
+package me.agno.gridjavacore.filtering;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.filtering.types.TextPredicateStrategy;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.utils.ItemsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextPredicateStrategyTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("customer.companyName", String.class);
+    };
+
+    // orders of each customer
+    private static final long CUSTOMER_ORDERS = TestDatabase.ORDERS / TestDatabase.CUSTOMERS;
+
+    @Test
+    void upperComparesUpperCaseColumn() {
+        var items = getItems(TextPredicateStrategy.UPPER, "3__company_2");
+
+        assertEquals(CUSTOMER_ORDERS, items.pager.getItemsCount());
+        var statement = getFilterStatement();
+        assertTrue(statement.contains("upper("), statement);
+        assertTrue(statement.contains(" like ") && statement.contains(" escape "), statement);
+    }
+
+    @Test
+    void collationStartsWithUsesLike() {
+        var items = getItems(TextPredicateStrategy.COLLATION, "3__Company_2");
+
+        assertEquals(CUSTOMER_ORDERS, items.pager.getItemsCount());
+        var statement = getFilterStatement();
+        assertFalse(statement.contains("upper("), statement);
+        assertFalse(statement.contains(">=") || statement.contains("<"), statement);
+        assertTrue(statement.contains(" like ") && statement.contains(" escape "), statement);
+    }
+
+    @Test
+    void ilikeComparesWithoutCase() {
+        var items = getItems(TextPredicateStrategy.ILIKE, "3__company_2");
+
+        assertEquals(CUSTOMER_ORDERS, items.pager.getItemsCount());
+        var statement = getFilterStatement();
+        assertFalse(statement.contains("upper("), statement);
+        assertTrue(statement.contains("like") && statement.contains(" escape "), statement);
+    }
+
+    @Test
+    void patternCharactersAreComparedLiterally() {
+        // the companies of the customers with an even identifier end with %
+        for (var strategy : TextPredicateStrategy.values()) {
+            assertEquals(2 * CUSTOMER_ORDERS, getItems(strategy, "4__%").pager.getItemsCount(), strategy.name());
+            assertEquals(0, getItems(strategy, "2__y%_").pager.getItemsCount(), strategy.name());
+        }
+    }
+
+    private ItemsDTO<Order> getItems(TextPredicateStrategy strategy, String filter) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "customer.companyName__" + filter });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .filterable()
+                    .withTextPredicateStrategy(strategy);
+            TestDatabase.clearStatements();
+            return server.getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private String getFilterStatement() {
+        List<String> statements = TestDatabase.getStatements();
+        return statements.get(statements.size() - 1).toLowerCase();
+    }
+}
@@ -0,0 +1,191 @@
+package me.agno.gridjavacore.grouping;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Customer;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.server.IGridServer;
+import me.agno.gridjavacore.totals.Total;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GroupProcessorTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+        c.add("freight", BigDecimal.class).sum(true).max(true).min(true);
+        c.add("customer.country", String.class);
+    };
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void createData() {
+        entityManagerFactory = TestDatabase.createEntityManagerFactory("grouping");
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            var spain = createCustomer("C1", "Spain");
+            var france = createCustomer("C2", "France");
+            em.persist(spain);
+            em.persist(france);
+            em.persist(createOrder(1, "A", spain));
+            em.persist(createOrder(2, "B", spain));
+            em.persist(createOrder(3, "A", france));
+            em.persist(createOrder(4, "A", france));
+            em.persist(createOrder(5, "B", france));
+            em.persist(createOrder(6, "A", null));
+            em.getTransaction().commit();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void groupsHaveTheCountAndTotalsOfTheirItems() {
+        var groups = getGroups(null, List.of("customer.country"), 0);
+
+        assertEquals(3, groups.size());
+        var france = getGroup(groups, "France");
+        assertEquals(3, france.getCount());
+        assertTotal(120, france.getTotals().getSum().get("freight"));
+        assertTotal(50, france.getTotals().getMax().get("freight"));
+        assertTotal(30, france.getTotals().getMin().get("freight"));
+        var spain = getGroup(groups, "Spain");
+        assertEquals(2, spain.getCount());
+        assertTotal(30, spain.getTotals().getSum().get("freight"));
+    }
+
+    @Test
+    void itemsWithoutValueAreGroupedInANullKey() {
+        var groups = getGroups(null, List.of("customer.country"), 0);
+
+        var group = getGroup(groups, null);
+        assertEquals(1, group.getCount());
+        assertTotal(60, group.getTotals().getSum().get("freight"));
+    }
+
+    @Test
+    void groupsHaveTheKeysOfAllTheGroupColumns() {
+        var groups = getGroups(null, List.of("customer.country", "shipName"), 0);
+
+        assertEquals(5, groups.size());
+        var group = groups.stream()
+                .filter(g -> "France".equals(g.getKeys().get("customer.country")) && "A".equals(g.getKeys().get("shipName")))
+                .findFirst().orElseThrow();
+        assertEquals(List.of("customer.country", "shipName"), List.copyOf(group.getKeys().keySet()));
+        assertEquals(2, group.getCount());
+    }
+
+    @Test
+    void maxGroupsLimitsTheNumberOfGroups() {
+        var all = getGroups(null, List.of("customer.country"), 0);
+        var groups = getGroups(null, List.of("customer.country"), 2);
+
+        assertEquals(2, groups.size());
+        assertEquals(all.get(0).getKeys(), groups.get(0).getKeys());
+        assertEquals(all.get(1).getKeys(), groups.get(1).getKeys());
+    }
+
+    @Test
+    void groupsOfAnExpandedGroupAreItsSubgroups() {
+        var groups = getGroups(Map.of("customer.country", "France"), List.of("shipName"), 0);
+
+        assertEquals(2, groups.size());
+        assertEquals(2, getGroup(groups, "shipName", "A").getCount());
+        assertEquals(1, getGroup(groups, "shipName", "B").getCount());
+    }
+
+    @Test
+    void expandedGroupRestrictsTheItemsCountAndTotals() {
+        var items = getItems(Map.of("customer.country", "France"), server -> server.getItemsToDisplay());
+
+        assertEquals(List.of(3, 4), items.items.stream().map(Order::getOrderID).toList());
+        assertEquals(3, items.pager.getItemsCount());
+        assertTotal(120, items.totals.getSum().get("freight"));
+    }
+
+    @Test
+    void expandedNullGroupSelectsTheItemsWithoutValue() {
+        Map<String, String> group = new HashMap<>();
+        group.put("customer.country", null);
+        var items = getItems(group, server -> server.getItemsToDisplay());
+
+        assertEquals(List.of(6), items.items.stream().map(Order::getOrderID).toList());
+        assertEquals(1, items.pager.getItemsCount());
+        assertTotal(60, items.totals.getSum().get("freight"));
+    }
+
+    private List<GroupDTO> getGroups(Map<String, String> group, List<String> columnNames, int maxGroups) {
+        return getItems(group, server -> server.getGroups(columnNames, maxGroups));
+    }
+
+    private <R> R getItems(Map<String, String> group, Function<IGridServer<Order>, R> function) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "0" });
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            IGridServer<Order> server = new GridServer<>(em, Order.class, query, COLUMNS, 2)
+                    .sortable()
+                    .withGroup(group);
+            return function.apply(server);
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private static GroupDTO getGroup(List<GroupDTO> groups, String country) {
+        return getGroup(groups, "customer.country", country);
+    }
+
+    private static GroupDTO getGroup(List<GroupDTO> groups, String columnName, String value) {
+        return groups.stream()
+                .filter(g -> Objects.equals(value, g.getKeys().get(columnName)))
+                .findFirst().orElseThrow(() -> new AssertionError("No group " + columnName + " = " + value));
+    }
+
+    private static void assertTotal(long expected, Total total) {
+        assertEquals(0, BigDecimal.valueOf(expected).compareTo(total.getNumber().get()));
+    }
+
+    private static Customer createCustomer(String customerID, String country) {
+        var customer = new Customer();
+        customer.setCustomerID(customerID);
+        customer.setCompanyName("Company " + customerID);
+        customer.setCountry(country);
+        return customer;
+    }
+
+    private static Order createOrder(int orderID, String shipName, Customer customer) {
+        var order = new Order();
+        order.setOrderID(orderID);
+        order.setShipName(shipName);
+        order.setFreight(BigDecimal.valueOf(orderID * 10L));
+        order.setCustomer(customer);
+        return order;
+    }
+}
@@ -0,0 +1,23 @@
+package me.agno.gridjavacore.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "customers")
+@Getter
+@Setter
+public class Customer {
+
+    @Id
+    private String customerID;
+
+    private String companyName;
+
+    private String companyNameNormalized;
+
+    private String country;
+}
@@ -0,0 +1,41 @@
+package me.agno.gridjavacore.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Table(name = "orders")
+@Getter
+@Setter
+public class Order {
+
+    @Id
+    private Integer orderID;
+
+    private LocalDateTime orderDate;
+
+    private BigDecimal freight;
+
+    private String shipName;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    private Boolean shipped;
+
+    private UUID trackingID;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customerID")
+    private Customer customer;
+
+    @OneToMany
+    @JoinColumn(name = "orderID", insertable = false, updatable = false)
+    private List<OrderDetail> orderDetails;
+}
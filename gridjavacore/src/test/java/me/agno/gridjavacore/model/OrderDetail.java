@@ -0,0 +1,21 @@
+package me.agno.gridjavacore.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "orderdetails")
+@Getter
+@Setter
+public class OrderDetail {
+
+    @Id
+    private Integer orderDetailID;
+
+    private Integer orderID;
+
+    private Integer quantity;
+}
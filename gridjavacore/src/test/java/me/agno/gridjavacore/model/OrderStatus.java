@@ -0,0 +1,7 @@
+package me.agno.gridjavacore.model;
+
+public enum OrderStatus {
+    NEW,
+    SHIPPED,
+    DELIVERED
+}
@@ -0,0 +1,57 @@
+package me.agno.gridjavacore.pagination;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FetchPlannerTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("freight", BigDecimal.class);
+        c.add("customer.companyName", String.class);
+        c.add("customer.country", String.class);
+    };
+
+    @Test
+    void columnAssociationsAreLoadedWithThePageStatement() {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "customer.country__1__France" });
+        query.put("grid-column", new String[] { "customer.companyName" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable()
+                    .filterable()
+                    .withFetchGraph();
+            TestDatabase.clearStatements();
+            var items = server.getItemsToDisplay();
+
+            // count and page
+            assertEquals(2, TestDatabase.getStatements().size());
+            var page = TestDatabase.getStatements().get(1).toLowerCase();
+            assertEquals(1, page.split("join customers ", -1).length - 1, page);
+
+            // the customers are initialized by the page statement
+            assertEquals(10, items.items.size());
+            for (var order : items.items)
+                assertEquals("France", order.getCustomer().getCountry());
+            assertTrue(items.items.stream().allMatch(r -> r.getCustomer().getCompanyName() != null));
+            assertEquals(2, TestDatabase.getStatements().size());
+        }
+        finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package me.agno.gridjavacore.pagination;
+
+import me.agno.gridjavacore.filtering.types.FilterTypeResolver;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KeysetCursorTest {
+
+    @Test
+    void temporalValuesAreRestoredExactly() {
+        var instant = Instant.parse("2024-03-10T01:59:59.123456789Z");
+
+        var calendar = Calendar.getInstance(TimeZone.getTimeZone("Pacific/Kiritimati"));
+        calendar.setTimeInMillis(instant.toEpochMilli());
+        var restoredCalendar = (Calendar) roundTrip(calendar, Calendar.class);
+        assertEquals(calendar.getTimeInMillis(), restoredCalendar.getTimeInMillis());
+
+        assertEquals(Timestamp.from(instant), roundTrip(Timestamp.from(instant), Timestamp.class));
+        assertEquals(Date.from(instant), roundTrip(Date.from(instant), Date.class));
+        assertEquals(instant, roundTrip(instant, Instant.class));
+
+        var localDateTime = LocalDateTime.of(2024, 3, 10, 1, 0, 0, 1000);
+        assertEquals(localDateTime, roundTrip(localDateTime, LocalDateTime.class));
+        assertEquals(localDateTime.toLocalTime(), roundTrip(localDateTime.toLocalTime(), LocalTime.class));
+        assertEquals(localDateTime.toLocalDate(), roundTrip(localDateTime.toLocalDate(), LocalDate.class));
+
+        var offsetDateTime = localDateTime.atOffset(ZoneOffset.ofHours(14));
+        assertEquals(offsetDateTime, roundTrip(offsetDateTime, OffsetDateTime.class));
+        var zonedDateTime = localDateTime.atZone(ZoneId.of("Europe/Madrid"));
+        assertEquals(zonedDateTime, roundTrip(zonedDateTime, ZonedDateTime.class));
+    }
+
+    @Test
+    void cursorIsDecodedWithNullValues() {
+        var values = Arrays.asList("a.b", null, "~", "2024-03-10T01:59:59Z");
+        var cursor = KeysetCursor.decode(new KeysetCursor(true, values).encode());
+
+        assertEquals(true, cursor.isPrevious());
+        assertEquals(values, cursor.getValues());
+        assertNull(KeysetCursor.fromCursorValue(cursor.getValues().get(1), String.class,
+                FilterTypeResolver.getDefault()));
+    }
+
+    private Object roundTrip(Object value, Class<?> type) {
+        var cursor = KeysetCursor.decode(new KeysetCursor(false, List.of(KeysetCursor.toCursorValue(value))).encode());
+        return KeysetCursor.fromCursorValue(cursor.getValues().get(0), type, FilterTypeResolver.getDefault());
+    }
+}
@@ -0,0 +1,212 @@
+package me.agno.gridjavacore.pagination;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.server.IGridServer;
+import me.agno.gridjavacore.utils.ItemsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagerProcessorTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("freight", BigDecimal.class);
+    };
+
+    @Test
+    void windowCountUsesQueryPageSize() {
+        var items = getItems(Map.of("grid-page", "2", "grid-pagesize", "7"), IGridServer::withWindowCount);
+
+        assertEquals(List.of(8, 9, 10, 11, 12, 13, 14), getOrderIDs(items));
+        assertEquals(7, items.pager.getPageSize());
+        assertEquals(TestDatabase.ORDERS, items.pager.getItemsCount());
+    }
+
+    @Test
+    void nextPageUsesQueryPageSize() {
+        var items = getItems(Map.of("grid-page", "2", "grid-pagesize", "7"), IGridServer::withNoCount);
+
+        assertEquals(List.of(8, 9, 10, 11, 12, 13, 14), getOrderIDs(items));
+        assertEquals(7, items.pager.getPageSize());
+        assertTrue(items.pager.isHasNextPage());
+    }
+
+    @Test
+    void lastNextPageUsesQueryPageSize() {
+        var items = getItems(Map.of("grid-page", "3", "grid-pagesize", "25"), IGridServer::withNoCount);
+
+        assertEquals(TestDatabase.ORDERS - 50, items.items.size());
+        assertFalse(items.pager.isHasNextPage());
+        assertEquals(TestDatabase.ORDERS, items.pager.getItemsCount());
+    }
+
+    @Test
+    void cappedCountDoesNotLimitCurrentPage() {
+        var items = getItems(Map.of("grid-page", "4"), r -> r.withCappedCount(20));
+
+        assertEquals(List.of(31, 32, 33, 34, 35, 36, 37, 38, 39, 40), getOrderIDs(items));
+        assertEquals(4, items.pager.getCurrentPage());
+        assertEquals(41, items.pager.getItemsCount());
+        assertTrue(items.pager.isHasNextPage());
+        assertFalse(items.pager.isExact());
+    }
+
+    @Test
+    void estimatedCountDoesNotLimitCurrentPage() {
+        var items = getItems(Map.of("grid-page", "6"), r -> r.withEstimatedCount(grid -> 15L));
+
+        assertEquals(List.of(51, 52, 53, 54, 55, 56, 57, 58, 59, 60), getOrderIDs(items));
+        assertEquals(6, items.pager.getCurrentPage());
+        assertEquals(TestDatabase.ORDERS, items.pager.getItemsCount());
+        assertFalse(items.pager.isHasNextPage());
+        assertFalse(items.pager.isExact());
+    }
+
+    @Test
+    void keysetPagingWithoutCountVisitsEveryItemOnce() {
+        Consumer<IGridColumnCollection<Order>> columns = c -> {
+            c.add("orderID", Integer.class).setPrimaryKey(true);
+            c.add("orderDate", LocalDateTime.class);
+        };
+
+        List<Integer> orderIDs = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Map<String, String[]> query = new HashMap<>();
+            query.put("grid-column", new String[] { "orderDate" });
+            query.put("grid-dir", new String[] { "1" });
+            if (cursor != null)
+                query.put("grid-cursor", new String[] { cursor });
+
+            var em = TestDatabase.createEntityManager();
+            try {
+                TestDatabase.clearStatements();
+                var items = new GridServer<>(em, Order.class, query, columns)
+                        .sortable()
+                        .withKeysetPaging(7)
+                        .withNoCount()
+                        .getItemsToDisplay();
+                assertEquals(1, TestDatabase.getStatements().size());
+                assertEquals(items.pager.getNextCursor() != null, items.pager.isHasNextPage());
+
+                orderIDs.addAll(getOrderIDs(items));
+                cursor = items.pager.getNextCursor();
+                pages++;
+            }
+            finally {
+                em.close();
+            }
+        } while (cursor != null);
+
+        assertEquals(9, pages);
+        assertEquals(TestDatabase.ORDERS, orderIDs.size());
+        assertEquals(TestDatabase.ORDERS, new HashSet<>(orderIDs).size());
+    }
+
+    @Test
+    void keysetPagingVisitsNullKeysInBothDirections() {
+        var entityManagerFactory = TestDatabase.createEntityManagerFactory("keyset");
+        try {
+            var em = entityManagerFactory.createEntityManager();
+            em.getTransaction().begin();
+            for (int i = 1; i <= 30; i++) {
+                var order = new Order();
+                order.setOrderID(i);
+                order.setShipName(i % 3 == 0 ? null : "Ship " + (i % 4));
+                em.persist(order);
+            }
+            em.getTransaction().commit();
+            em.close();
+
+            for (var direction : new String[] { "0", "1" }) {
+                List<Integer> forward = new ArrayList<>();
+                var items = getKeysetPage(entityManagerFactory, direction, null);
+                forward.addAll(getOrderIDs(items));
+                while (items.pager.getNextCursor() != null) {
+                    items = getKeysetPage(entityManagerFactory, direction, items.pager.getNextCursor());
+                    forward.addAll(getOrderIDs(items));
+                }
+                assertEquals(30, forward.size(), direction);
+                assertEquals(30, new HashSet<>(forward).size(), direction);
+
+                // the null keys are the lowest values
+                var nulls = direction.equals("0") ? forward.subList(0, 10) : forward.subList(20, 30);
+                assertTrue(nulls.stream().allMatch(r -> r % 3 == 0), direction);
+
+                List<Integer> backward = new ArrayList<>(getOrderIDs(items));
+                while (items.pager.getPreviousCursor() != null) {
+                    items = getKeysetPage(entityManagerFactory, direction, items.pager.getPreviousCursor());
+                    backward.addAll(0, getOrderIDs(items));
+                }
+                assertEquals(forward, backward, direction);
+            }
+        }
+        finally {
+            entityManagerFactory.close();
+        }
+    }
+
+    private ItemsDTO<Order> getKeysetPage(EntityManagerFactory entityManagerFactory, String direction,
+                                          String cursor) {
+        Consumer<IGridColumnCollection<Order>> columns = c -> {
+            c.add("orderID", Integer.class).setPrimaryKey(true);
+            c.add("shipName", String.class);
+        };
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-column", new String[] { "shipName" });
+        query.put("grid-dir", new String[] { direction });
+        if (cursor != null)
+            query.put("grid-cursor", new String[] { cursor });
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            return new GridServer<>(em, Order.class, query, columns)
+                    .sortable()
+                    .withKeysetPaging(4)
+                    .withNoCount()
+                    .getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private ItemsDTO<Order> getItems(Map<String, String> parameters, UnaryOperator<IGridServer<Order>> options) {
+        Map<String, String[]> query = new HashMap<>();
+        parameters.forEach((key, value) -> query.put(key, new String[] { value }));
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "0" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            IGridServer<Order> server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable();
+            return options.apply(server).getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private List<Integer> getOrderIDs(ItemsDTO<Order> items) {
+        return items.items.stream().map(Order::getOrderID).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package me.agno.gridjavacore.searching;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.model.OrderDetail;
+import me.agno.gridjavacore.model.OrderStatus;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.utils.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DefaultColumnSearchTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("orderDate", LocalDateTime.class);
+        c.add("shipName", String.class);
+        c.add("status", OrderStatus.class);
+        c.add("shipped", Boolean.class);
+        c.add("trackingID", UUID.class);
+    };
+
+    @Test
+    void integerColumnsAreComparedWithEquality() {
+        Consumer<IGridColumnCollection<Order>> columns = c -> c.add("orderID", Integer.class);
+
+        // a like predicate would also match 17, 27, 37, 47 and 57
+        assertEquals(List.of(7), getOrderIDs(columns, "7"));
+    }
+
+    @Test
+    void enumColumnsAreComparedWithTheConstantIgnoringCase() {
+        assertEquals(getOrderIDs(i -> i % 3 == 1), getOrderIDs(COLUMNS, "shipped"));
+    }
+
+    @Test
+    void booleanColumnsAreComparedWithTheBooleanValue() {
+        assertEquals(getOrderIDs(i -> i % 2 == 0), getOrderIDs(COLUMNS, "TRUE"));
+    }
+
+    @Test
+    void uuidColumnsAreComparedWithTheUuid() {
+        assertEquals(List.of(42), getOrderIDs(COLUMNS, new UUID(0, 42).toString()));
+    }
+
+    @Test
+    void datesMatchTheWholeDayOfDateTimeColumns() {
+        // the order dates are January 1st plus i % 20 days, at different times
+        assertEquals(getOrderIDs(i -> i % 20 == 4), getOrderIDs(COLUMNS, "2024-01-05"));
+    }
+
+    @Test
+    void columnsNotAcceptingTheValueAreSkipped() {
+        // only the text column accepts the value
+        assertEquals(getOrderIDs(i -> i % 10 == 3), getOrderIDs(COLUMNS, "Ship 3"));
+    }
+
+    @Test
+    void collectionColumnsAreComparedWithTheCount() {
+        Consumer<IGridColumnCollection<Order>> columns = c -> {
+            c.add("orderID", Integer.class);
+            c.add("orderDetails.count", Collection.class, "details")
+                    .subgrid(OrderDetail.class, new Pair[] { new Pair<>("orderID", "orderID") });
+        };
+
+        // each order i has i % 4 details
+        assertEquals(getOrderIDs(i -> i % 4 == 2), getOrderIDs(columns, "2"));
+    }
+
+    private List<Integer> getOrderIDs(Consumer<IGridColumnCollection<Order>> columns, String search) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-search", new String[] { search });
+        query.put("grid-column", new String[] { "orderID" });
+        query.put("grid-dir", new String[] { "0" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, columns, TestDatabase.ORDERS)
+                    .sortable()
+                    .searchable(options -> {
+                        options.setOnlyTextColumns(false);
+                        options.setTypedColumns(true);
+                    });
+            return server.getItemsToDisplay().items.stream().map(Order::getOrderID).toList();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private static List<Integer> getOrderIDs(IntPredicate predicate) {
+        return IntStream.rangeClosed(1, TestDatabase.ORDERS).filter(predicate).boxed().toList();
+    }
+}
@@ -0,0 +1,112 @@
+package me.agno.gridjavacore.searching;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.pagination.PagerDTO;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchEngineTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("shipName", String.class);
+    };
+
+    @Test
+    void hitsAreSortedByRelevance() {
+        var hits = List.of(7, 3, 42, 15, 1);
+        assertEquals(hits, getOrderIDs(hits, false));
+        assertEquals(hits, getOrderIDs(hits, true));
+    }
+
+    @Test
+    void statementTextOnlyDependsOnPaddedHitCount() {
+        getOrderIDs(List.of(7, 3, 42, 15, 1), false);
+        var fiveHits = TestDatabase.getStatements();
+
+        getOrderIDs(List.of(2, 4, 6, 8, 10, 12, 14), false);
+        var sevenHits = TestDatabase.getStatements();
+
+        getOrderIDs(List.of(2, 4, 6, 8, 10, 12, 14, 16, 18), false);
+        var nineHits = TestDatabase.getStatements();
+
+        assertEquals(fiveHits, sevenHits);
+        assertNotEquals(fiveHits, nineHits);
+    }
+
+    @Test
+    void hitsAreCapped() {
+        // the engine returns more hits than the parameter limits of most databases
+        List<Integer> hits = new ArrayList<>();
+        for (int i = 0; i < 5000; i++)
+            hits.add(TestDatabase.ORDERS - i % TestDatabase.ORDERS);
+
+        var orderIDs = getOrderIDs(hits, false);
+        assertEquals(IntStream.range(0, TestDatabase.ORDERS).map(i -> TestDatabase.ORDERS - i).boxed().toList(), orderIDs);
+        for (var statement : TestDatabase.getStatements()) {
+            int parameters = statement.split("\\?", -1).length - 1;
+            // the padded hits, the padded relevance hits, and the offset and limit of the page
+            assertTrue(parameters <= 1024 + 128 + 2, statement.substring(0, 200));
+        }
+    }
+
+    @Test
+    void countIsNotExactWhenHitsReachTheLimit() {
+        var hits = List.of(7, 3, 42, 15, 1);
+
+        var pager = getPager(hits, 10);
+        assertEquals(5, pager.getItemsCount());
+        assertTrue(pager.isExact());
+
+        // the engine may have more hits than the five it returned
+        pager = getPager(hits, 5);
+        assertEquals(5, pager.getItemsCount());
+        assertFalse(pager.isExact());
+    }
+
+    private PagerDTO getPager(List<Integer> hits, int engineHits) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-search", new String[] { "ship" });
+        var em = TestDatabase.createEntityManager();
+        try {
+            return new GridServer<>(em, Order.class, query, COLUMNS, 100)
+                    .searchable(o -> o.setEngineHits(engineHits))
+                    .withSearchEngine((type, value, options) -> hits)
+                    .getItemsToDisplay().pager;
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private List<Integer> getOrderIDs(List<Integer> hits, boolean hqlQueries) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-search", new String[] { "ship" });
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 100)
+                    .searchable(o -> o.setRelevanceOrder(true))
+                    .withHqlQueries(hqlQueries)
+                    .withSearchEngine((type, value, options) -> hits);
+            TestDatabase.clearStatements();
+            return server.getItemsToDisplay().items.stream().map(Order::getOrderID).toList();
+        }
+        finally {
+            em.close();
+        }
+    }
+}
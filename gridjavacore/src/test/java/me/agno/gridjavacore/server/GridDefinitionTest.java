@@ -0,0 +1,117 @@
+package me.agno.gridjavacore.server;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.columns.GridColumnCollection;
+import me.agno.gridjavacore.columns.GridCoreColumn;
+import me.agno.gridjavacore.filtering.types.BigDecimalFilterType;
+import me.agno.gridjavacore.filtering.types.TextFilterType;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.sorting.GridSortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GridDefinitionTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        var shipName = (GridCoreColumn<Order, String>) c.add("shipName", String.class);
+        shipName.thenSortByDescending((GridCoreColumn<Order, BigDecimal>) ((GridColumnCollection<Order>) c)
+                .createColumn("freight", BigDecimal.class, false, null));
+        c.add("freight", BigDecimal.class).sum(true);
+        c.add("customer.country", String.class);
+    };
+
+    @Test
+    void columnsAreCompiledOnceAndBoundToEachRequest() {
+        var calls = new AtomicInteger();
+        var definition = new GridDefinition<Order>(TestDatabase.getEntityManagerFactory(), Order.class,
+                c -> { calls.incrementAndGet(); COLUMNS.accept(c); }, 10,
+                server -> server.sortable().filterable());
+
+        assertEquals(List.of("orderID", "shipName", "freight", "customer.country"),
+                definition.getColumns().stream().map(c -> c.getName()).toList());
+        assertInstanceOf(TextFilterType.class, definition.getColumns().get(1).getFilterType());
+        assertInstanceOf(BigDecimalFilterType.class, definition.getColumns().get(2).getFilterType());
+
+        List<Map<String, String[]>> queries = List.of(
+                Map.of("grid-filter", new String[] { "customer.country__1__Germany" },
+                        "grid-column", new String[] { "shipName" },
+                        "grid-dir", new String[] { "1" }),
+                Map.of("grid-filter", new String[] { "shipName__3__Ship 1" },
+                        "grid-column", new String[] { "freight" },
+                        "grid-dir", new String[] { "0" },
+                        "grid-page", new String[] { "1" }),
+                new HashMap<>());
+
+        for (var query : queries) {
+            var em = TestDatabase.createEntityManager();
+            try {
+                var expected = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                        .sortable().filterable().getItemsToDisplay();
+                var actual = definition.createServer(em, query).getItemsToDisplay();
+
+                assertEquals(getIds(expected.getItems()), getIds(actual.getItems()));
+                assertEquals(expected.getPager().getItemsCount(), actual.getPager().getItemsCount());
+                assertEquals(expected.getTotals().getSum().get("freight").getNumber(),
+                        actual.getTotals().getSum().get("freight").getNumber());
+            }
+            finally {
+                em.close();
+            }
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void thenByOrdererIsBound() {
+        var definition = new GridDefinition<Order>(TestDatabase.getEntityManagerFactory(), Order.class, COLUMNS,
+                TestDatabase.ORDERS);
+        var thenBy = definition.getColumns().get(1).getThenByColumns();
+        assertEquals(1, thenBy.size());
+        assertEquals("freight", thenBy.get(0).getKey().getExpression());
+        assertEquals(GridSortDirection.DESCENDING, thenBy.get(0).getValue());
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var query = Map.of("grid-column", new String[] { "shipName" }, "grid-dir", new String[] { "0" });
+            var items = definition.createServer(em, query).sortable().getItemsToDisplay().getItems();
+
+            // the orders of each ship name are sorted by freight in descending order
+            for (int i = 1; i < items.size(); i++) {
+                var previous = items.get(i - 1);
+                var item = items.get(i);
+                if (previous.getShipName().equals(item.getShipName()))
+                    assertEquals(1, previous.getFreight().compareTo(item.getFreight()));
+            }
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @Test
+    void invalidExpressionFailsWhenTheDefinitionIsCreated() {
+        assertThrows(IllegalArgumentException.class, () -> new GridDefinition<Order>(
+                TestDatabase.getEntityManagerFactory(), Order.class, c -> c.add("shipNam", String.class)));
+    }
+
+    private static List<Integer> getIds(Iterable<Order> items) {
+        var ids = new ArrayList<Integer>();
+        for (var item : items)
+            ids.add(item.getOrderID());
+        return ids;
+    }
+}
@@ -0,0 +1,91 @@
+package me.agno.gridjavacore.totals;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavacore.server.IGridServer;
+import me.agno.gridjavacore.utils.ItemsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FusedTotalsTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class).sum(true);
+        c.add("orderDate", LocalDateTime.class).max(true).min(true);
+        c.add("freight", BigDecimal.class).sum(true).average(true).max(true).min(true);
+        c.add("shipName", String.class).max(true);
+    };
+
+    @Test
+    void fusedTotalsUseOneAggregateStatement() {
+        var separate = getItems(false, false);
+        int separateStatements = TestDatabase.getStatements().size();
+
+        var fused = getItems(true, false);
+        // count, totals and page
+        assertEquals(3, TestDatabase.getStatements().size());
+        // count, page and one statement per aggregate
+        assertEquals(2 + 8, separateStatements);
+        assertSameTotals(separate.totals, fused.totals);
+    }
+
+    @Test
+    void fusedCountUsesOneStatementForCountAndTotals() {
+        var separate = getItems(false, false);
+
+        var fused = getItems(true, true);
+        // count with totals, and page
+        assertEquals(2, TestDatabase.getStatements().size());
+        assertEquals(separate.pager.getItemsCount(), fused.pager.getItemsCount());
+        assertSameTotals(separate.totals, fused.totals);
+    }
+
+    private ItemsDTO<Order> getItems(boolean fusedTotals, boolean fusedCount) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "freight__5__1" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            IGridServer<Order> server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .filterable()
+                    .withFusedTotals(fusedTotals)
+                    .withFusedCount(fusedCount);
+            TestDatabase.clearStatements();
+            return server.getItemsToDisplay();
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private void assertSameTotals(TotalsDTO expected, TotalsDTO actual) {
+        assertSameTotals(expected.getSum(), actual.getSum());
+        assertSameTotals(expected.getAverage(), actual.getAverage());
+        assertSameTotals(expected.getMax(), actual.getMax());
+        assertSameTotals(expected.getMin(), actual.getMin());
+    }
+
+    private void assertSameTotals(Map<String, Total> expected, Map<String, Total> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (var name : expected.keySet()) {
+            var expectedTotal = expected.get(name);
+            var actualTotal = actual.get(name);
+            assertEquals(expectedTotal.getType(), actualTotal.getType(), name);
+            if (expectedTotal.getNumber() != null && expectedTotal.getNumber().isPresent())
+                assertEquals(0, expectedTotal.getNumber().get().compareTo(actualTotal.getNumber().get()), name);
+            else
+                assertEquals(expectedTotal.getNumber(), actualTotal.getNumber(), name);
+            assertEquals(expectedTotal.getDateTime(), actualTotal.getDateTime(), name);
+            assertEquals(expectedTotal.getString(), actualTotal.getString(), name);
+        }
+    }
+}
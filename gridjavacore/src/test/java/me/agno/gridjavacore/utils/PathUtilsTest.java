@@ -0,0 +1,56 @@
+package me.agno.gridjavacore.utils;
+
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.TestDatabase;
+import me.agno.gridjavacore.model.Order;
+import me.agno.gridjavacore.server.GridServer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PathUtilsTest {
+
+    private static final Consumer<IGridColumnCollection<Order>> COLUMNS = c -> {
+        c.add("orderID", Integer.class);
+        c.add("freight", BigDecimal.class).sum(true);
+        c.add("customer.companyName", String.class).max(true);
+        c.add("customer.country", String.class).min(true);
+    };
+
+    @Test
+    void filterSortSearchAndTotalsShareOneJoinPerAssociation() {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-filter", new String[] { "customer.companyName__3__Company", "customer.country__10__Italy" });
+        query.put("grid-column", new String[] { "customer.country" });
+        query.put("grid-dir", new String[] { "1" });
+        query.put("grid-search", new String[] { "a" });
+
+        var em = TestDatabase.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Order.class, query, COLUMNS, 10)
+                    .sortable()
+                    .filterable()
+                    .searchable(true, true);
+            TestDatabase.clearStatements();
+            var items = server.getItemsToDisplay();
+
+            assertEquals(TestDatabase.ORDERS, items.pager.getItemsCount());
+            // count, 3 totals and page
+            assertEquals(5, TestDatabase.getStatements().size());
+            for (var statement : TestDatabase.getStatements())
+                assertEquals(1, countJoins(statement, "customers"), statement);
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    private int countJoins(String statement, String table) {
+        return statement.toLowerCase().split("join " + table + " ", -1).length - 1;
+    }
+}
@@ -0,0 +1,65 @@
+package me.agno.gridjavasearch;
+
+import jakarta.persistence.EntityManager;
+import me.agno.gridjavacore.SearchOptions;
+import me.agno.gridjavacore.searching.ISearchEngine;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.mapper.orm.Search;
+
+import java.util.List;
+
+/**
+ * The HibernateSearchEngine class is a reference implementation of the ISearchEngine interface, that resolves
+ * the search value of a grid with the Lucene index of the grid items maintained by Hibernate Search.
+ * The grid items must be annotated with {@code @Indexed}, and the searched fields with {@code @FullTextField}.
+ * The changes made through Hibernate are indexed automatically, and the existing items are indexed with
+ * {@link HibernateSearchIndexer}.
+ *
+ * @param <T> the type of the grid items
+ */
+public class HibernateSearchEngine<T> implements ISearchEngine<T> {
+
+    private final EntityManager entityManager;
+
+    private final String[] fields;
+
+    /**
+     * Constructs a HibernateSearchEngine object.
+     *
+     * @param entityManager the entity manager of the grid
+     * @param fields the indexed fields matched with the search value
+     * @throws IllegalArgumentException if the entity manager is null or there are no fields
+     */
+    public HibernateSearchEngine(EntityManager entityManager, String... fields) {
+        if (entityManager == null)
+            throw new IllegalArgumentException("entityManager");
+        if (fields == null || fields.length == 0)
+            throw new IllegalArgumentException("fields");
+        this.entityManager = entityManager;
+        this.fields = fields;
+    }
+
+    /**
+     * Searches the items whose indexed fields contain all the words of the search value, using the simple query
+     * string syntax of Hibernate Search. The number of identifiers is limited by the {@code engineHits} option.
+     *
+     * @param targetType the type of the grid items
+     * @param searchValue the search value, not split in words
+     * @param searchOptions the search options of the grid
+     * @return the identifiers of the matching items sorted by relevance, or null if the search value is empty
+     */
+    @Override
+    public List<?> search(Class<T> targetType, String searchValue, SearchOptions searchOptions) {
+
+        if (searchValue == null || searchValue.isBlank())
+            return null;
+
+        return Search.session(this.entityManager).search(targetType)
+                .select(f -> f.id())
+                .where(f -> f.simpleQueryString()
+                        .fields(this.fields)
+                        .matching(searchValue)
+                        .defaultOperator(BooleanOperator.AND))
+                .fetchHits(Math.max(searchOptions.getEngineHits(), 1));
+    }
+}
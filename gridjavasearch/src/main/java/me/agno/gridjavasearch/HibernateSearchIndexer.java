@@ -0,0 +1,43 @@
+package me.agno.gridjavasearch;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.search.mapper.orm.Search;
+
+/**
+ * The HibernateSearchIndexer class rebuilds the Lucene indexes of the grid items from the database with the mass
+ * indexer of Hibernate Search. It is used for the initial load of the indexes, or after changes that are not made
+ * through Hibernate, because the changes made through Hibernate are indexed automatically.
+ */
+public final class HibernateSearchIndexer {
+
+    private static final int DEFAULT_THREADS = 4;
+
+    private HibernateSearchIndexer() { }
+
+    /**
+     * Rebuilds the indexes of the given types and waits until they are complete.
+     *
+     * @param entityManager the entity manager used to load the items
+     * @param types the indexed types
+     * @throws InterruptedException if the thread is interrupted while the items are indexed
+     */
+    public static void index(EntityManager entityManager, Class<?>... types) throws InterruptedException {
+        index(entityManager, DEFAULT_THREADS, types);
+    }
+
+    /**
+     * Rebuilds the indexes of the given types, loading the items with several threads, and waits until they are
+     * complete.
+     *
+     * @param entityManager the entity manager used to load the items
+     * @param threads the number of threads loading the items of each type
+     * @param types the indexed types
+     * @throws InterruptedException if the thread is interrupted while the items are indexed
+     */
+    public static void index(EntityManager entityManager, int threads, Class<?>... types)
+            throws InterruptedException {
+        Search.session(entityManager).massIndexer(types)
+                .threadsToLoadObjects(Math.max(threads, 1))
+                .startAndWait();
+    }
+}
@@ -0,0 +1,116 @@
+package me.agno.gridjavasearch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.agno.gridjavacore.IGridColumnCollection;
+import me.agno.gridjavacore.SearchOptions;
+import me.agno.gridjavacore.server.GridServer;
+import me.agno.gridjavasearch.model.Product;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HibernateSearchEngineTest {
+
+    private static final String[] NAMES = { "Red apple", "Green apple", "Red cherry", "Banana", "Apple pie",
+            "Red apple juice" };
+
+    private static final Consumer<IGridColumnCollection<Product>> COLUMNS = c -> {
+        c.add("productID", Integer.class);
+        c.add("productName", String.class);
+    };
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void createIndex() throws InterruptedException {
+        // the automatic indexing is disabled, so the items are only indexed by the mass indexer
+        entityManagerFactory = new Configuration()
+                .addAnnotatedClass(Product.class)
+                .setProperty("hibernate.connection.driver_class", "org.h2.Driver")
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:search;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.search.backend.directory.type", "local-heap")
+                .setProperty("hibernate.search.indexing.listeners.enabled", "false")
+                .buildSessionFactory();
+
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < NAMES.length; i++) {
+                var product = new Product();
+                product.setProductID(i + 1);
+                product.setProductName(NAMES[i]);
+                em.persist(product);
+            }
+            em.getTransaction().commit();
+
+            assertEquals(List.of(), search(em, "apple", o -> { }));
+            HibernateSearchIndexer.index(em, Product.class);
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void gridItemsAreTheEngineHits() {
+        assertEquals(Set.of(1, 6), Set.copyOf(getProductIDs("red apple", o -> { })));
+        assertEquals(Set.of(1, 2, 5, 6), Set.copyOf(getProductIDs("APPLE", o -> { })));
+        assertEquals(List.of(), getProductIDs("orange", o -> { }));
+    }
+
+    @Test
+    void gridItemsAreSortedByRelevance() {
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            var hits = search(em, "red apple", o -> { });
+            assertEquals(hits, getProductIDs("red apple", o -> o.setRelevanceOrder(true)));
+        }
+        finally {
+            em.close();
+        }
+    }
+
+    @Test
+    void hitsAreLimited() {
+        assertEquals(2, getProductIDs("apple", o -> o.setEngineHits(2)).size());
+    }
+
+    private static List<?> search(EntityManager em, String searchValue,
+                                  Consumer<SearchOptions> searchOptions) {
+        var options = new SearchOptions();
+        searchOptions.accept(options);
+        return new HibernateSearchEngine<Product>(em, "productName").search(Product.class, searchValue, options);
+    }
+
+    private List<Integer> getProductIDs(String searchValue, Consumer<SearchOptions> searchOptions) {
+        Map<String, String[]> query = new HashMap<>();
+        query.put("grid-search", new String[] { searchValue });
+        var em = entityManagerFactory.createEntityManager();
+        try {
+            var server = new GridServer<>(em, Product.class, query, COLUMNS, 10)
+                    .searchable(searchOptions)
+                    .withSearchEngine(new HibernateSearchEngine<>(em, "productName"));
+            return server.getItemsToDisplay().items.stream().map(Product::getProductID).toList();
+        }
+        finally {
+            em.close();
+        }
+    }
+}
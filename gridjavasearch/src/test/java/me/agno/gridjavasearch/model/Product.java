@@ -0,0 +1,23 @@
+package me.agno.gridjavasearch.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+@Entity
+@Table(name = "products")
+@Indexed
+@Getter
+@Setter
+public class Product {
+
+    @Id
+    private Integer productID;
+
+    @FullTextField
+    private String productName;
+}